@@ -0,0 +1,77 @@
+package com.estelle.hangman.benchmark;
+
+import com.estelle.hangman.domain.GameSession;
+import com.estelle.hangman.domain.Word;
+import com.estelle.hangman.game.GameJournal;
+import com.estelle.hangman.game.JournalFile;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서버 재시작 시 저널에서 진행 중인 게임 10만 개를 복원하는 데 걸리는 시간을 측정합니다.
+ * 각 게임은 START 1건과 GUESS 6건으로 기록되어 있고, 절반은 END로 끝난 상태입니다.
+ * (단어 조회 쿼리는 제외하고, 파일 읽기 + GameSession 재구성 비용만 측정)
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=GameJournalRecoveryBenchmark
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+public class GameJournalRecoveryBenchmark {
+
+    @Param({"100000"})
+    public int liveGames;
+
+    private static final String[] TEXTS = {"APPLE", "ELEPHANT", "TIGER", "BANANA", "SCHOOL", "PENCIL"};
+    private static final char[] GUESSES = "ETAOIN".toCharArray();
+
+    private Path journal;
+    private Word[] words;
+
+    @Setup(Level.Trial)
+    public void writeJournal() throws IOException {
+        words = new Word[TEXTS.length];
+        for (int i = 0; i < TEXTS.length; i++) {
+            words[i] = new Word();
+            words[i].setId((long) i);
+            words[i].setWord(TEXTS[i]);
+        }
+
+        journal = Files.createTempFile("game-journal", ".wal");
+        int totalGames = liveGames * 2;
+        long capacity = JournalFile.HEADER_SIZE + (long) totalGames * 8 * JournalFile.RECORD_SIZE;
+        try (JournalFile file = JournalFile.open(journal, capacity)) {
+            for (long gameId = 1; gameId <= totalGames; gameId++) {
+                file.append(JournalFile.START, '\0', gameId, gameId % TEXTS.length);
+                for (char letter : GUESSES) {
+                    file.append(JournalFile.GUESS, letter, gameId, 0L);
+                }
+                if (gameId % 2 == 0) {
+                    file.append(JournalFile.END, '\0', gameId, 0L);
+                }
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteJournal() throws IOException {
+        Files.deleteIfExists(journal);
+    }
+
+    @Benchmark
+    public void recover(Blackhole bh) throws IOException {
+        Map<Long, JournalFile.RecoveredGame> games = JournalFile.readLiveGames(journal);
+        for (JournalFile.RecoveredGame game : games.values()) {
+            GameSession session = GameJournal.replay(words[(int) game.getWordId()], game.getStudentId(), game.getGuessedMask());
+            bh.consume(session);
+        }
+    }
+}
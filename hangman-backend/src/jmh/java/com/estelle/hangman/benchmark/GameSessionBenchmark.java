@@ -0,0 +1,108 @@
+package com.estelle.hangman.benchmark;
+
+import com.estelle.hangman.domain.GameSession;
+import com.estelle.hangman.domain.Word;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GameSession의 글자 추측 처리 성능을 비교하는 벤치마크입니다.
+ * - legacy: 기존 HashSet<Character> + String.contains + 스트림 방식
+ * - bitmask: 현재 GameSession의 비트 연산 방식
+ *
+ * 한 번의 측정은 새 세션을 만들고 정해진 순서로 글자를 끝까지 추측하는 한 판의 게임입니다.
+ * 실행: ./gradlew jmh
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class GameSessionBenchmark {
+
+    // 짧은 단어와 긴 단어를 모두 측정
+    @Param({"CAT", "ELEPHANT", "CONGRATULATIONS"})
+    public String text;
+
+    // 자주 쓰이는 알파벳 순서로 추측 (맞는 글자와 틀린 글자가 섞이도록)
+    private static final char[] GUESSES = "ETAOINSHRDLCUMWFGYPBVKJXQZ".toCharArray();
+
+    private Word word;
+
+    @Setup
+    public void setUp() {
+        word = new Word();
+        word.setWord(text);
+    }
+
+    @Benchmark
+    public void legacy(Blackhole bh) {
+        LegacyGameSession session = new LegacyGameSession(word);
+        for (char c : GUESSES) {
+            if (session.isComplete()) {
+                break;
+            }
+            bh.consume(session.guessLetter(c));
+        }
+        bh.consume(session.isSuccess());
+    }
+
+    @Benchmark
+    public void bitmask(Blackhole bh) {
+        GameSession session = new GameSession(word, 1L);
+        for (char c : GUESSES) {
+            if (session.isComplete()) {
+                break;
+            }
+            bh.consume(session.guessLetter(c));
+        }
+        bh.consume(session.isSuccess());
+    }
+
+    /**
+     * 비교를 위해 남겨둔 기존 GameSession의 추측/판정 로직입니다.
+     */
+    static class LegacyGameSession {
+        private final Word word;
+        private final Set<Character> guessedLetters = new HashSet<>();
+        private final Set<Character> wrongLetters = new HashSet<>();
+        private final int maxAttempts = 10;
+        private boolean isComplete = false;
+        private boolean isSuccess = false;
+
+        LegacyGameSession(Word word) {
+            this.word = word;
+        }
+
+        boolean guessLetter(char letter) {
+            letter = Character.toUpperCase(letter);
+            if (guessedLetters.contains(letter)) {
+                return false;
+            }
+            guessedLetters.add(letter);
+            if (!word.getWord().toUpperCase().contains(String.valueOf(letter))) {
+                wrongLetters.add(letter);
+            }
+            checkGameStatus();
+            return true;
+        }
+
+        private void checkGameStatus() {
+            if (wrongLetters.size() >= maxAttempts) {
+                isComplete = true;
+                return;
+            }
+            isSuccess = word.getWord().toUpperCase()
+                    .chars()
+                    .mapToObj(c -> (char) c)
+                    .allMatch(guessedLetters::contains);
+            isComplete = isSuccess;
+        }
+
+        boolean isComplete() { return isComplete; }
+
+        boolean isSuccess() { return isSuccess; }
+    }
+}
@@ -0,0 +1,95 @@
+package com.estelle.hangman.benchmark;
+
+import com.estelle.hangman.domain.Course;
+import com.estelle.hangman.domain.GameSession;
+import com.estelle.hangman.domain.User;
+import com.estelle.hangman.domain.Word;
+import com.estelle.hangman.game.HintEngine;
+import com.estelle.hangman.game.WordPool;
+import com.estelle.hangman.repository.WordRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 한 반의 단어 10만 개에서 힌트 계산 시간을 측정합니다.
+ * - fresh: 아직 아무 글자도 시도하지 않은 게임 (같은 길이의 단어 전체가 후보)
+ * - midGame: 맞힌 글자 2개, 틀린 글자 3개를 시도한 게임
+ *
+ * 단어는 알파벳 4~10자의 무작위 글자열이며, 모두 같은 반과 선생님의 단어라고 가정합니다.
+ * 실행: ./gradlew jmh -Pjmh.includes=HintBenchmark
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx2g"})
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HintBenchmark {
+
+    private static final int WORDS = 100_000;
+
+    private HintEngine hintEngine;
+    private GameSession fresh;
+    private GameSession midGame;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<Word> words = newWords();
+        WordRepository repository = (WordRepository) Proxy.newProxyInstance(
+                WordRepository.class.getClassLoader(), new Class<?>[]{WordRepository.class},
+                (proxy, method, args) -> method.getName().equals("findAll") ? words : null);
+        WordPool pool = new WordPool(repository);
+        pool.load();
+        hintEngine = new HintEngine(pool);
+
+        Word answer = words.get(WORDS / 2);
+        fresh = new GameSession(answer, 1L);
+        midGame = new GameSession(answer, 1L);
+        int correct = 0;
+        int wrong = 0;
+        for (char letter = 'A'; letter <= 'Z' && (correct < 2 || wrong < 3); letter++) {
+            boolean hit = answer.getWord().indexOf(letter) >= 0;
+            if (hit ? correct++ < 2 : wrong++ < 3) {
+                midGame.guessLetter(letter);
+            }
+        }
+        hintEngine.suggest(fresh);  // 색인을 미리 만들어 둠
+    }
+
+    @Benchmark
+    public Object fresh() {
+        return hintEngine.suggest(fresh);
+    }
+
+    @Benchmark
+    public Object midGame() {
+        return hintEngine.suggest(midGame);
+    }
+
+    private static List<Word> newWords() {
+        Random random = new Random(42);
+        User teacher = new User();
+        teacher.setId(1L);
+        Course course = new Course();
+        course.setId(1L);
+
+        List<Word> words = new ArrayList<>(WORDS);
+        for (int i = 1; i <= WORDS; i++) {
+            char[] text = new char[4 + random.nextInt(7)];
+            for (int j = 0; j < text.length; j++) {
+                text[j] = (char) ('A' + random.nextInt(26));
+            }
+            Word word = new Word();
+            word.setId((long) i);
+            word.setWord(new String(text));
+            word.setDifficulty(1 + random.nextInt(5));
+            word.setCourse(course);
+            word.setTeacher(teacher);
+            words.add(word);
+        }
+        return words;
+    }
+}
@@ -0,0 +1,119 @@
+package com.estelle.hangman.benchmark;
+
+import com.estelle.hangman.domain.BlockIdGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로컬 MySQL에서 게임 기록 1000건을 저장하는 속도를 ID 방식별로 측정합니다. (결과 단위: 초당 INSERT 수)
+ * - identityPerRow: IDENTITY 방식. Hibernate는 생성된 ID를 받아야 하므로 batch 없이 한 행씩 INSERT함 (변경 전)
+ * - blockIdBatched: id_block에서 ID를 예약한 뒤 한 번의 batch insert로 저장 (변경 후)
+ *
+ * game_history와 같은 컬럼의 bench_history 테이블과 id_block 행을 직접 만들고, 매 반복마다 비웁니다.
+ * 실행: ./gradlew jmh -Pjmh.includes=InsertBenchmark
+ *       (DB 주소는 -Dbenchmark.jdbc.url / .username / .password로 바꿀 수 있음)
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class InsertBenchmark {
+
+    private static final int ROWS = 1000;
+    private static final String ID_BLOCK = "bench_history";
+
+    private static final String INSERT_IDENTITY_SQL =
+            "INSERT INTO bench_history (student_id, word_id, is_success, attempts, wrong_letter_mask, played_at) "
+                    + "VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_ID_SQL =
+            "INSERT INTO bench_history (id, student_id, word_id, is_success, attempts, wrong_letter_mask, played_at) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private Connection connection;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(
+                System.getProperty("benchmark.jdbc.url",
+                        "jdbc:mysql://localhost:3306/hangman?useSSL=false&rewriteBatchedStatements=true"),
+                System.getProperty("benchmark.jdbc.username", "root"),
+                System.getProperty("benchmark.jdbc.password", "0000"));
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE IF NOT EXISTS bench_history ("
+                    + "id BIGINT AUTO_INCREMENT PRIMARY KEY, student_id BIGINT NOT NULL, word_id BIGINT NOT NULL, "
+                    + "is_success BIT NOT NULL, attempts INT NOT NULL, wrong_letter_mask INT NOT NULL, played_at DATETIME(6))");
+            statement.execute("CREATE TABLE IF NOT EXISTS id_block ("
+                    + "name VARCHAR(64) NOT NULL PRIMARY KEY, next_val BIGINT NOT NULL)");
+            statement.execute("INSERT IGNORE INTO id_block (name, next_val) VALUES ('" + ID_BLOCK + "', 1)");
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void truncate() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("TRUNCATE TABLE bench_history");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE bench_history");
+            statement.execute("DELETE FROM id_block WHERE name = '" + ID_BLOCK + "'");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public long identityPerRow() throws SQLException {
+        long last = 0;
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        try (PreparedStatement ps = connection.prepareStatement(INSERT_IDENTITY_SQL, Statement.RETURN_GENERATED_KEYS)) {
+            for (int i = 0; i < ROWS; i++) {
+                bind(ps, 1, i, now);
+                ps.executeUpdate();
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    keys.next();
+                    last = keys.getLong(1);
+                }
+            }
+        }
+        return last;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public int[] blockIdBatched() throws SQLException {
+        long first = BlockIdGenerator.reserve(connection, ID_BLOCK, ROWS);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        try (PreparedStatement ps = connection.prepareStatement(INSERT_ID_SQL)) {
+            for (int i = 0; i < ROWS; i++) {
+                ps.setLong(1, first + i);
+                bind(ps, 2, i, now);
+                ps.addBatch();
+            }
+            return ps.executeBatch();
+        }
+    }
+
+    private static void bind(PreparedStatement ps, int index, int row, Timestamp playedAt) throws SQLException {
+        ps.setLong(index, 100 + row % 50);
+        ps.setLong(index + 1, 1 + row % 500);
+        ps.setBoolean(index + 2, row % 3 != 0);
+        ps.setInt(index + 3, row % 10);
+        ps.setInt(index + 4, 0b111);  // "A,B,C"
+        ps.setTimestamp(index + 5, playedAt);
+    }
+}
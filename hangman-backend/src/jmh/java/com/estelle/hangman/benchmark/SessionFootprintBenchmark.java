@@ -0,0 +1,113 @@
+package com.estelle.hangman.benchmark;
+
+import com.estelle.hangman.domain.Course;
+import com.estelle.hangman.domain.GameSession;
+import com.estelle.hangman.domain.Word;
+import com.estelle.hangman.game.GameSessionStore;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 보관 중인 게임 세션 하나가 차지하는 힙 크기를 비교합니다. (결과의 heapBytesPerSession 값 참고)
+ * - legacy: 기존 방식 (Word 엔티티 + HashSet 두 개, HashMap에 보관)
+ * - onHeap: 현재 GameSession을 GameSessionStore에 보관
+ * - parked: GameSessionStore가 세션을 압축해서 힙 밖으로 옮긴 상태
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=SessionFootprintBenchmark
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 1)  // 보조 카운터가 반복 횟수만큼 합산되므로 한 번만 측정
+@Fork(value = 1, jvmArgsAppend = {"-Xmx2g", "-XX:+UseSerialGC"})
+public class SessionFootprintBenchmark {
+
+    private static final int SESSIONS = 200_000;
+    private static final String[] TEXTS = {"APPLE", "ELEPHANT", "TIGER", "BANANA", "SCHOOL", "PENCIL"};
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+        public long heapBytesPerSession;
+    }
+
+    @Benchmark
+    public Object legacy(Footprint footprint) {
+        long before = usedHeap();
+        Map<Long, GameSessionBenchmark.LegacyGameSession> sessions = new HashMap<>();
+        for (long id = 0; id < SESSIONS; id++) {
+            GameSessionBenchmark.LegacyGameSession session = new GameSessionBenchmark.LegacyGameSession(newWord(id));
+            play(session::guessLetter);
+            sessions.put(id, session);
+        }
+        footprint.heapBytesPerSession = (usedHeap() - before) / SESSIONS;
+        return sessions;
+    }
+
+    @Benchmark
+    public Object onHeap(Footprint footprint) {
+        long before = usedHeap();
+        GameSessionStore store = fill(60);
+        footprint.heapBytesPerSession = (usedHeap() - before) / SESSIONS;
+        return store;
+    }
+
+    @Benchmark
+    public Object parked(Footprint footprint) {
+        long before = usedHeap();
+        GameSessionStore store = fill(0);
+        store.evictExpired();  // 모든 세션을 힙 밖으로 이동
+        footprint.heapBytesPerSession = (usedHeap() - before) / SESSIONS;
+        return store;
+    }
+
+    private GameSessionStore fill(long parkAfterMinutes) {
+        GameSessionStore store = new GameSessionStore(60, parkAfterMinutes, SESSIONS);
+        for (long id = 0; id < SESSIONS; id++) {
+            GameSession session = new GameSession(newWord(id), id);
+            play(session::guessLetter);
+            store.put(id, session);
+        }
+        return store;
+    }
+
+    /**
+     * 실제 요청처럼 세션마다 따로 조회된 Word 엔티티를 만듭니다.
+     */
+    private static Word newWord(long id) {
+        Course course = new Course();
+        course.setId(id % 20);
+        Word word = new Word();
+        word.setId(id % TEXTS.length);
+        word.setWord(TEXTS[(int) (id % TEXTS.length)]);
+        word.setCourse(course);
+        return word;
+    }
+
+    /**
+     * 맞는 글자와 틀린 글자를 섞어 세 번 추측합니다.
+     */
+    private static void play(Guesser guesser) {
+        guesser.guess('E');
+        guesser.guess('Q');
+        guesser.guess('A');
+    }
+
+    /**
+     * 정리 후 살아 있는 객체가 차지하는 힙 크기를 구합니다.
+     */
+    private static long usedHeap() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    private interface Guesser {
+        boolean guess(char letter);
+    }
+}
@@ -0,0 +1,103 @@
+package com.estelle.hangman.benchmark;
+
+import com.estelle.hangman.domain.Course;
+import com.estelle.hangman.domain.User;
+import com.estelle.hangman.domain.Word;
+import com.estelle.hangman.game.ShuffleBagStore;
+import com.estelle.hangman.game.WordPool;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 학생 5만 명의 단어 주머니(ShuffleBag)를 측정합니다.
+ * - next: 무작위 학생 한 명의 다음 단어를 꺼내는 시간
+ * - footprint: 학생 한 명의 주머니가 차지하는 힙 크기 (결과의 heapBytesPerStudent 값 참고)
+ *
+ * 반 50개에 반마다 단어 200개가 있다고 가정합니다.
+ * 실행: ./gradlew jmh -Pjmh.includes=ShuffleBagBenchmark
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx2g", "-XX:+UseSerialGC"})
+public class ShuffleBagBenchmark {
+
+    private static final int STUDENTS = 50_000;
+    private static final int COURSES = 50;
+    private static final int WORDS_PER_COURSE = 200;
+    private static final long TEACHER_ID = 1L;
+
+    private WordPool pool;
+    private ShuffleBagStore store;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        pool = newPool();
+        store = new ShuffleBagStore(pool, STUDENTS * 2);
+        // 모든 학생이 한 번씩 게임을 시작해 주머니가 만들어진 상태
+        for (long studentId = 0; studentId < STUDENTS; studentId++) {
+            store.next(studentId, studentId % COURSES, TEACHER_ID);
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public Object next() {
+        long studentId = ThreadLocalRandom.current().nextInt(STUDENTS);
+        return store.next(studentId, studentId % COURSES, TEACHER_ID);
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+        public long heapBytesPerStudent;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 1)  // 보조 카운터가 반복 횟수만큼 합산되므로 한 번만 측정
+    public Object footprint(Footprint footprint) {
+        long before = usedHeap();
+        ShuffleBagStore bags = new ShuffleBagStore(pool, STUDENTS * 2);
+        for (long studentId = 0; studentId < STUDENTS; studentId++) {
+            bags.next(studentId, studentId % COURSES, TEACHER_ID);
+        }
+        footprint.heapBytesPerStudent = (usedHeap() - before) / STUDENTS;
+        return bags;
+    }
+
+    private static WordPool newPool() {
+        WordPool pool = new WordPool(null);
+        User teacher = new User();
+        teacher.setId(TEACHER_ID);
+        long id = 1;
+        for (long courseId = 0; courseId < COURSES; courseId++) {
+            Course course = new Course();
+            course.setId(courseId);
+            for (int i = 0; i < WORDS_PER_COURSE; i++) {
+                Word word = new Word();
+                word.setId(id++);
+                word.setWord("WORD");
+                word.setCourse(course);
+                word.setTeacher(teacher);
+                word.setDifficulty(1);
+                pool.put(word);
+            }
+        }
+        return pool;
+    }
+
+    /**
+     * 정리 후 살아 있는 객체가 차지하는 힙 크기를 구합니다.
+     */
+    private static long usedHeap() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+}
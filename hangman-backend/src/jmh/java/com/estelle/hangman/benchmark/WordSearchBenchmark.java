@@ -0,0 +1,120 @@
+package com.estelle.hangman.benchmark;
+
+import com.estelle.hangman.domain.Course;
+import com.estelle.hangman.domain.User;
+import com.estelle.hangman.domain.Word;
+import com.estelle.hangman.game.WordPool;
+import com.estelle.hangman.repository.WordRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 단어 100만 개에서 단어 검색 색인을 측정합니다.
+ * - build: 서버 시작 시 단어 색인과 검색 색인을 한 번에 만드는 시간
+ * - keyword / keywordAndCategory / shortKeywordAndCategory / shortKeyword: 조건별 검색 시간
+ *
+ * 단어는 알파벳 4~10자의 무작위 글자열이고, 카테고리 20개, 난이도 5단계, 반 100개로 나뉘어 있다고 가정합니다.
+ * 실행: ./gradlew jmh -Pjmh.includes=WordSearchBenchmark
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+public class WordSearchBenchmark {
+
+    private static final int WORDS = 1_000_000;
+    private static final int CATEGORIES = 20;
+    private static final int COURSES = 100;
+
+    private List<Word> words;
+    private WordPool pool;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        words = newWords();
+        pool = newPool(words);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 2)
+    @Measurement(iterations = 3)
+    public Object build() {
+        return newPool(words);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Object keyword() {
+        return pool.search("QUEX", null, null, 0, Integer.MAX_VALUE);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Object keywordAndCategory() {
+        return pool.search("abc", "Category7", 3, 0, Integer.MAX_VALUE);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Object shortKeywordAndCategory() {
+        return pool.search("QZ", "Category7", 3, 0, Integer.MAX_VALUE);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Object shortKeyword() {
+        return pool.search("QZ", null, null, 0, Integer.MAX_VALUE);
+    }
+
+    private static List<Word> newWords() {
+        Random random = new Random(42);
+        List<User> teachers = new ArrayList<>();
+        List<Course> courses = new ArrayList<>();
+        for (long i = 0; i < COURSES; i++) {
+            User teacher = new User();
+            teacher.setId(i);
+            teachers.add(teacher);
+            Course course = new Course();
+            course.setId(i);
+            courses.add(course);
+        }
+
+        List<Word> words = new ArrayList<>(WORDS);
+        for (int i = 1; i <= WORDS; i++) {
+            char[] text = new char[4 + random.nextInt(7)];
+            for (int j = 0; j < text.length; j++) {
+                text[j] = (char) ('A' + random.nextInt(26));
+            }
+            Word word = new Word();
+            word.setId((long) i);
+            word.setWord(new String(text));
+            word.setCategory("Category" + random.nextInt(CATEGORIES));
+            word.setDifficulty(1 + random.nextInt(5));
+            word.setCourse(courses.get(i % COURSES));
+            word.setTeacher(teachers.get(i % COURSES));
+            words.add(word);
+        }
+        return words;
+    }
+
+    /**
+     * findAll만 주어진 단어를 돌려주는 저장소로 단어 색인을 만듭니다.
+     */
+    private static WordPool newPool(List<Word> words) {
+        WordRepository repository = (WordRepository) Proxy.newProxyInstance(
+                WordRepository.class.getClassLoader(), new Class<?>[]{WordRepository.class},
+                (proxy, method, args) -> method.getName().equals("findAll") ? words : null);
+        WordPool pool = new WordPool(repository);
+        pool.load();
+        return pool;
+    }
+}
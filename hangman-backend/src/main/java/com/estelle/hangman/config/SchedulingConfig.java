@@ -0,0 +1,11 @@
+package com.estelle.hangman.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// 게임 세션 만료 정리 등 백그라운드 작업을 위한 스케줄링 설정
+// @Scheduled 작업은 요청 스레드가 아닌 별도의 스케줄러 스레드에서 실행됩니다.
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,59 @@
+package com.estelle.hangman.controller;
+
+import com.estelle.hangman.exception.UnsupportedExportFormatException;
+import com.estelle.hangman.service.ExportService;
+import com.estelle.hangman.service.ExportService.Format;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.Locale;
+
+// 관리자용 전체 데이터 내보내기 (format=csv 또는 ndjson, 응답은 chunked로 나눠서 전송)
+@RestController
+@RequestMapping("/api/admin/export")
+@RequiredArgsConstructor
+public class ExportController {
+
+    private final ExportService exportService;
+
+    @GetMapping("/words")
+    public ResponseEntity<StreamingResponseBody> exportWords(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestParam(defaultValue = "csv") String format) {
+        Format exportFormat = parseFormat(format);
+        return attachment("words", exportFormat, exportService.exportWords(userDetails.getUsername(), exportFormat));
+    }
+
+    @GetMapping("/history")
+    public ResponseEntity<StreamingResponseBody> exportGameHistory(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestParam(defaultValue = "csv") String format) {
+        Format exportFormat = parseFormat(format);
+        return attachment("game-history", exportFormat,
+                exportService.exportGameHistory(userDetails.getUsername(), exportFormat));
+    }
+
+    private static Format parseFormat(String format) {
+        try {
+            return Format.valueOf(format.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new UnsupportedExportFormatException("Unsupported export format: " + format + " (expected csv or ndjson)");
+        }
+    }
+
+    // Content-Length를 정하지 않으므로 Transfer-Encoding: chunked로 전송됨
+    private static ResponseEntity<StreamingResponseBody> attachment(String name, Format format, StreamingResponseBody body) {
+        String filename = name + (format == Format.CSV ? ".csv" : ".ndjson");
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+}
@@ -3,10 +3,12 @@ package com.estelle.hangman.controller;
 import com.estelle.hangman.dto.*;
 import com.estelle.hangman.service.GameService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -25,13 +27,27 @@ public class GameController {
         return ResponseEntity.ok(gameService.startGame(userDetails.getUsername(), request));
     }
 
+    // compact=true라면 전체 상태 대신 바뀐 부분만 응답 (request의 knownVersion 기준)
     @PostMapping("/guess")
-    public ResponseEntity<GameGuessResponse> guessLetter(
+    public ResponseEntity<?> guessLetter(
             @AuthenticationPrincipal UserDetails userDetails,
-            @RequestBody GameGuessRequest request) {
+            @RequestBody GameGuessRequest request,
+            @RequestParam(defaultValue = "false") boolean compact) {
+        if (compact) {
+            return ResponseEntity.ok(gameService.guessLetterDelta(userDetails.getUsername(), request));
+        }
         return ResponseEntity.ok(gameService.guessLetter(userDetails.getUsername(), request));
     }
 
+    // 여러 글자를 한 번에 추측 (보낸 순서대로 적용, 게임이 끝나면 나머지는 무시)
+    @PostMapping("/{gameId}/guesses")
+    public ResponseEntity<GameBatchGuessResponse> guessLetters(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @PathVariable Long gameId,
+            @RequestBody GameBatchGuessRequest request) {
+        return ResponseEntity.ok(gameService.guessLetters(userDetails.getUsername(), gameId, request));
+    }
+
     @GetMapping("/history")
     public ResponseEntity<List<GameHistoryResponse>> getGameHistory(
             @AuthenticationPrincipal UserDetails userDetails) {
@@ -77,6 +93,31 @@ public class GameController {
         return ResponseEntity.ok(gameService.getCurrentGameStatus(userDetails.getUsername(), gameId));
     }
 
+    // 진행중인 게임에서 다음에 시도할 알파벳 추천 (정답은 알려주지 않음)
+    @GetMapping("/{gameId}/hint")
+    public ResponseEntity<GameHintResponse> getHint(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @PathVariable Long gameId) {
+        return ResponseEntity.ok(gameService.getHint(userDetails.getUsername(), gameId));
+    }
+
+    // 진행중인 게임 상태를 실시간으로 받기 (상태가 바뀔 때만 이벤트 전송, 게임이 끝나면 연결 종료)
+    @GetMapping(value = "/{gameId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamGameState(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @PathVariable Long gameId) {
+        return gameService.openGameStream(userDetails.getUsername(), gameId);
+    }
+
+    // 저장된 이벤트로 게임의 특정 시점 상태를 다시 만들기 (upTo: 적용할 마지막 추측 순번)
+    @GetMapping("/{gameId}/replay")
+    public ResponseEntity<GameGuessResponse> replayGame(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @PathVariable Long gameId,
+            @RequestParam(required = false) Integer upTo) {
+        return ResponseEntity.ok(gameService.replayGame(userDetails.getUsername(), gameId, upTo));
+    }
+
     // 게임 포기/종료
     @PostMapping("/forfeit/{gameId}")
     public ResponseEntity<GameGuessResponse> forfeitGame(
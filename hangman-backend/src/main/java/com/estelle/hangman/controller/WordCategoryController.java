@@ -6,13 +6,16 @@ import com.estelle.hangman.dto.*;
 import com.estelle.hangman.exception.UnauthorizedWordAccessException;
 import com.estelle.hangman.repository.CourseRepository;
 import com.estelle.hangman.repository.UserRepository;
+import com.estelle.hangman.service.WordImportService;
 import com.estelle.hangman.service.WordService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.util.List;
 
 @RestController
@@ -21,6 +24,7 @@ import java.util.List;
 public class WordCategoryController {
 
     private final WordService wordService;
+    private final WordImportService wordImportService;
     private final UserRepository userRepository;
     private final CourseRepository courseRepository;
 
@@ -30,12 +34,25 @@ public class WordCategoryController {
     }
 
     @GetMapping("/category/{category}")
-    public ResponseEntity<List<WordResponse>> getWordsByCategory(
+    public ResponseEntity<WordPageResponse> getWordsByCategory(
             @PathVariable String category,
             @RequestParam(required = false) Integer difficulty,
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Integer limit,
             @AuthenticationPrincipal UserDetails userDetails) {
         return ResponseEntity.ok(
-                wordService.getWordsByCategory(category, difficulty, userDetails.getUsername())
+                wordService.getWordsByCategory(category, difficulty, userDetails.getUsername(), after, limit)
+        );
+    }
+
+    @GetMapping("/teacher")
+    public ResponseEntity<WordPageResponse> getTeacherWords(
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Integer limit,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        return ResponseEntity.ok(
+                wordService.getWordsByTeacher(userDetails.getUsername(), category, after, limit)
         );
     }
 
@@ -73,6 +90,28 @@ public class WordCategoryController {
         return ResponseEntity.ok(wordService.createWord(request));
     }
 
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity<WordImportResponse> importWords(
+            @RequestParam Long courseId,
+            HttpServletRequest request,
+            @AuthenticationPrincipal UserDetails userDetails) throws IOException {
+        User user = userRepository.findByUsername(userDetails.getUsername())
+                .orElseThrow(() -> new RuntimeException("User not found"));
+
+        // 단어 생성과 같이 Admin이나 Manager만, Manager는 자신의 반에만 등록할 수 있도록 체크
+        if (user.getRole() != Role.ADMIN && user.getRole() != Role.MANAGER) {
+            throw new UnauthorizedWordAccessException("Only admin or teacher can create words");
+        }
+        if (user.getRole() == Role.MANAGER && !courseRepository.existsByIdAndTeacherId(courseId, user.getId())) {
+            throw new UnauthorizedWordAccessException(
+                    "Teacher can only create words for their own classes");
+        }
+
+        // 본문을 미리 읽지 않고 스트림 그대로 넘김 (현재 로그인한 사용자를 teacher로 설정)
+        boolean ndjson = request.getContentType() != null && request.getContentType().contains("ndjson");
+        return ResponseEntity.ok(wordImportService.importWords(user, courseId, request.getInputStream(), ndjson));
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<WordResponse> updateWord(
             @PathVariable Long id,
@@ -90,10 +129,12 @@ public class WordCategoryController {
     }
 
     @GetMapping("/search")
-    public ResponseEntity<List<WordResponse>> searchWords(
+    public ResponseEntity<WordPageResponse> searchWords(
             @RequestParam(required = false) String keyword,
             @RequestParam(required = false) String category,
-            @RequestParam(required = false) Integer difficulty) {
-        return ResponseEntity.ok(wordService.searchWords(keyword, category, difficulty));
+            @RequestParam(required = false) Integer difficulty,
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(wordService.searchWords(keyword, category, difficulty, after, limit));
     }
 }
\ No newline at end of file
@@ -0,0 +1,30 @@
+package com.estelle.hangman.domain;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * id_block 테이블에서 미리 예약한 ID 블록으로 기본키를 채우도록 지정하는 어노테이션입니다.
+ * IDENTITY와 달리 INSERT 전에 ID가 정해지므로 Hibernate가 JDBC batch insert를 사용할 수 있습니다.
+ *
+ * 예: @Id @BlockId("words") private Long id;
+ */
+@IdGeneratorType(BlockIdGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface BlockId {
+
+    /**
+     * id_block 테이블의 name 값 (테이블 이름과 같게 사용)
+     */
+    String value();
+
+    /**
+     * 한 번에 예약할 ID 수 (서버가 재시작되면 쓰지 않은 나머지는 건너뜀)
+     */
+    int blockSize() default 100;
+}
@@ -0,0 +1,77 @@
+package com.estelle.hangman.domain;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+import org.hibernate.jdbc.AbstractReturningWork;
+
+import java.lang.reflect.Member;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * id_block 테이블에서 ID를 blockSize개씩 예약해 두고 하나씩 나눠주는 ID 생성기입니다. (@BlockId로 사용)
+ *
+ * - 예약은 블록마다 한 번, 현재 트랜잭션과 분리된 짧은 트랜잭션에서 하므로 행 잠금을 오래 잡지 않습니다.
+ * - 블록 안의 ID는 메모리에서 나눠주므로 INSERT마다 DB에 묻지 않고, INSERT 전에 ID가 정해져 batch insert가 가능합니다.
+ * - JDBC로 직접 INSERT하는 곳(IdBlockAllocator)도 같은 테이블에서 예약하므로 서로 겹치지 않습니다.
+ */
+public class BlockIdGenerator implements IdentifierGenerator {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final String RESERVE_SQL =
+            "UPDATE id_block SET next_val = LAST_INSERT_ID(next_val + ?) WHERE name = ?";
+
+    private final String name;
+    private final int blockSize;
+
+    /**
+     * 다음에 나눠줄 ID와 현재 블록의 끝 (next == limit이면 새 블록을 예약)
+     */
+    private long next;
+    private long limit;
+
+    public BlockIdGenerator(BlockId config, Member member, CustomIdGeneratorCreationContext context) {
+        this.name = config.value();
+        this.blockSize = config.blockSize();
+    }
+
+    @Override
+    public synchronized Object generate(SharedSessionContractImplementor session, Object object) {
+        if (next == limit) {
+            long first = session.getTransactionCoordinator().createIsolationDelegate().delegateWork(
+                    new AbstractReturningWork<Long>() {
+                        @Override
+                        public Long execute(Connection connection) throws SQLException {
+                            return reserve(connection, name, blockSize);
+                        }
+                    }, true);
+            next = first;
+            limit = first + blockSize;
+        }
+        return next++;
+    }
+
+    /**
+     * id_block에서 size개의 ID를 예약합니다. (MySQL의 LAST_INSERT_ID(expr)로 UPDATE한 값을 같은 연결에서 읽음)
+     *
+     * @return 예약한 첫 ID (first ~ first + size - 1을 사용할 수 있음)
+     */
+    public static long reserve(Connection connection, String name, int size) throws SQLException {
+        try (PreparedStatement update = connection.prepareStatement(RESERVE_SQL)) {
+            update.setInt(1, size);
+            update.setString(2, name);
+            if (update.executeUpdate() != 1) {
+                throw new IllegalStateException("No id_block row for " + name);
+            }
+        }
+        try (PreparedStatement select = connection.prepareStatement("SELECT LAST_INSERT_ID()");
+             ResultSet rs = select.executeQuery()) {
+            rs.next();
+            return rs.getLong(1) - size;
+        }
+    }
+}
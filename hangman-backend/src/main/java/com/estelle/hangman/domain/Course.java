@@ -19,7 +19,7 @@ import java.util.List;
 public class Course {  // Course(반) 클래스 시작
 
     @Id  // 이것이 고유 식별자(primary key)라는 표시
-    @GeneratedValue(strategy = GenerationType.IDENTITY)  // ID를 자동으로 생성(1, 2, 3...)
+    @BlockId("courses")  // 미리 예약한 ID 블록에서 번호를 받음 (INSERT 전에 ID가 정해져 batch insert 가능)
     private Long id;  // 각 반의 고유 번호
 
     @Column(nullable = false)  // 이 필드는 반드시 값이 있어야 함
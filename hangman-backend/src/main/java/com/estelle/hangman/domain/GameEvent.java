@@ -0,0 +1,61 @@
+package com.estelle.hangman.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+
+/**
+ * 게임 진행 이벤트 하나를 저장하는 엔티티입니다. (추가만 하고 수정하지 않음)
+ * 게임마다 순번(ordinal) 0번은 시작 이벤트(단어, 학생), 1번부터는 추측한 순서대로의 글자 이벤트입니다.
+ * 포기한 게임은 마지막에 글자가 없는(letter = null) 포기 이벤트가 하나 더 붙습니다.
+ * 이 이벤트들을 순서대로 다시 적용하면 어느 시점의 게임 상태든 되살릴 수 있습니다.
+ *
+ * 게임 ID + 순번을 기본 키로 사용하므로 자동 증가 ID 없이 여러 행을 한 번에 저장(batch insert)할 수 있습니다.
+ */
+@Entity  // 이 클래스가 데이터베이스 테이블과 연결된다는 표시
+@Table(name = "game_event")  // 실제 데이터베이스의 'game_event' 테이블과 연결
+@IdClass(GameEvent.Key.class)  // 게임 ID + 순번을 함께 기본 키로 사용
+@Getter
+@Setter
+@NoArgsConstructor
+public class GameEvent {
+
+    @Id
+    private Long gameId;  // 게임 ID
+
+    @Id
+    private Integer ordinal;  // 게임 안에서의 순번 (0 = 시작)
+
+    @Column(length = 1)
+    private String letter;  // 추측한 알파벳 (시작 이벤트와 포기 이벤트는 null)
+
+    private Boolean hit;  // 단어에 들어있는 알파벳이었는지 (시작 이벤트는 null)
+
+    @Column(nullable = false)
+    private Integer offsetMs;  // 게임 시작 후 경과 시간 (밀리초)
+
+    private Long wordId;  // 게임 단어 ID (시작 이벤트에만 저장)
+
+    private Long studentId;  // 게임을 진행한 학생 ID (시작 이벤트에만 저장)
+
+    private String wordText;  // 게임 단어 (시작 이벤트에만 저장, 게임 뒤에 단어가 수정되어도 그대로 재생)
+
+    /**
+     * 게임 ID + 순번으로 이루어진 기본 키
+     */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private Long gameId;
+        private Integer ordinal;
+    }
+}
@@ -16,7 +16,7 @@ import java.time.LocalDateTime;
 public class GameHistory {
 
     @Id  // 이것이 primary key(고유 식별자)라는 표시
-    @GeneratedValue(strategy = GenerationType.IDENTITY)  // ID를 자동으로 1씩 증가시켜 생성
+    @BlockId("game_history")  // 미리 예약한 ID 블록에서 번호를 받음 (INSERT 전에 ID가 정해져 batch insert 가능)
     private Long id;  // 각 게임 기록의 고유 번호
 
     @ManyToOne(fetch = FetchType.LAZY)  // 여러 게임 기록이 한 학생에게 속할 수 있음
@@ -33,8 +33,23 @@ public class GameHistory {
     @Column(nullable = false)  // 이 필드는 필수값
     private Integer attempts;  // 시도 횟수
 
-    private String wrongLetters;  // 틀린 알파벳들을 저장 (예: "A,B,C")
+    @Column(nullable = false)  // 이 필드는 필수값
+    private Integer wrongLetterMask;  // 틀린 알파벳들을 비트로 저장 (A = 0번 비트, 예: "A,B,C" -> 0b111)
 
     @CreationTimestamp  // 데이터가 생성될 때 자동으로 시간 기록
     private LocalDateTime playedAt;  // 게임 플레이 시간
-}
\ No newline at end of file
+
+    /**
+     * 틀린 알파벳들을 A부터 Z 순서의 쉼표로 구분된 문자열로 돌려줍니다. (예: "A,B,C")
+     */
+    public String getWrongLetters() {
+        StringBuilder letters = new StringBuilder();
+        for (int bits = wrongLetterMask == null ? 0 : wrongLetterMask; bits != 0; bits &= bits - 1) {
+            if (!letters.isEmpty()) {
+                letters.append(',');
+            }
+            letters.append((char) ('A' + Integer.numberOfTrailingZeros(bits)));
+        }
+        return letters.toString();
+    }
+}
@@ -0,0 +1,7 @@
+package com.estelle.hangman.domain;
+
+public enum GameMode {
+    RANDOM,   // 기본: 반의 모든 단어를 한 번씩 돌아가며 출제
+    ADAPTIVE, // 적응형: 학생의 최근 승률에 맞는 난이도의 단어를 출제
+    REVIEW    // 복습: 학생이 틀렸던 단어 중 오늘 복습할 단어를 출제
+}
@@ -1,6 +1,8 @@
 package com.estelle.hangman.domain;
 
-import java.util.HashSet;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.Set;
 
 /**
@@ -9,24 +11,78 @@ import java.util.Set;
  */
 public class GameSession {
     /**
-     * 이번 게임에서 맞춰야 할 단어입니다.
+     * 압축 형태(writeTo/readFrom)로 저장할 때 세션 하나가 차지하는 바이트 수
+     * 단어 ID(8) | 반 ID(8) | 학생 ID(8) | 추측 비트(4) | 틀린 비트(4) | 플래그(1) | 단어 길이(1) | 단어(최대 30)
+     */
+    public static final int COMPACT_SIZE = 64;
+
+    /**
+     * 압축 형태로 저장할 수 있는 단어의 최대 길이
+     */
+    public static final int MAX_COMPACT_WORD_LENGTH = COMPACT_SIZE - 34;
+
+    private static final int FLAG_COMPLETE = 1;
+    private static final int FLAG_SUCCESS = 2;
+
+    /**
+     * 이번 게임 단어의 ID와 단어가 속한 반의 ID입니다.
+     * JPA 엔티티(Word) 자체를 들고 있으면 지연 로딩 프록시(Course, User)까지 함께 메모리에 남으므로
+     * 게임 진행에 필요한 값만 꺼내서 보관합니다.
+     */
+    private final Long wordId;
+    private final Long courseId;
+
+    /**
+     * 이 게임을 진행하는 사용자(학생)의 ID입니다.
+     * 방치된 게임을 자동으로 포기 처리할 때 누구의 기록인지 알기 위해 보관합니다.
+     */
+    private final Long studentId;
+
+    /**
+     * 이번 게임에서 맞춰야 할 단어입니다. (예: "CAT")
      * final로 선언되어 게임 중간에 단어가 바뀌는 것을 방지합니다.
      */
-    private final Word word;
+    private final String wordText;
+
+    /**
+     * 단어에 들어있는 알파벳들을 비트로 표시한 값입니다. (생성자에서 한 번만 계산)
+     * 'A'는 0번 비트, 'B'는 1번 비트, ... 'Z'는 25번 비트를 사용합니다.
+     * 예: "CAT" -> A, C, T 비트가 켜진 값
+     */
+    private final int wordMask;
+
+    /**
+     * 학생이 지금까지 시도한 모든 알파벳을 비트로 저장합니다.
+     * 같은 비트를 두 번 켤 수 없으므로 중복 시도를 바로 확인할 수 있습니다.
+     * 예: A, B, C, E를 시도했다면 0, 1, 2, 4번 비트가 켜져 있습니다.
+     */
+    private int guessedMask;
 
     /**
-     * 학생이 지금까지 시도한 모든 알파벳을 저장하는 Set입니다.
-     * HashSet을 사용하여 중복된 알파벳 시도를 방지합니다.
-     * 예: [A, B, C, E] - 학생이 A, B, C, E를 시도했음을 나타냅니다.
+     * 학생이 틀린 알파벳들만 따로 비트로 저장합니다.
+     * 틀린 횟수는 켜진 비트의 개수(Integer.bitCount)로 계산합니다.
      */
-    private final Set<Character> guessedLetters = new HashSet<>();
+    private int wrongMask;
 
     /**
-     * 학생이 틀린 알파벳들만 따로 저장하는 Set입니다.
-     * HashSet을 사용하여 중복을 방지합니다.
-     * 예: [X, Y, Z] - 학생이 틀린 알파벳들입니다.
+     * 알파벳별로 단어 안에서 등장하는 위치를 모아둔 색인입니다. (생성자에서 한 번만 계산)
+     * 알파벳 i의 위치들은 letterPositions[letterStart[i]] ~ letterPositions[letterStart[i + 1] - 1]에 들어있습니다.
+     * 예: "HELLO"에서 'L'의 위치는 [2, 3]
      */
-    private final Set<Character> wrongLetters = new HashSet<>();
+    private final int[] letterStart;
+    private final int[] letterPositions;
+
+    /**
+     * 가려진 단어를 글자 단위로 담아두는 버퍼입니다. 예: "H _ L L _"
+     * 글자를 맞출 때마다 해당 위치만 바꾸므로 매번 처음부터 다시 만들지 않습니다.
+     */
+    private final char[] maskedChars;
+
+    /**
+     * maskedChars로 만든 문자열을 캐시합니다.
+     * 새 글자가 공개될 때만 비워지므로, 상태 조회가 반복돼도 같은 문자열을 재사용합니다.
+     */
+    private String maskedWordCache;
 
     /**
      * 최대 시도 가능 횟수입니다.
@@ -48,10 +104,57 @@ public class GameSession {
 
     /**
      * 새로운 게임 세션을 시작합니다.
-     * @param word 이번 게임에서 맞춰야 할 단어
+     * @param word      이번 게임에서 맞춰야 할 단어
+     * @param studentId 게임을 진행하는 사용자 ID
      */
-    public GameSession(Word word) {
-        this.word = word;
+    public GameSession(Word word, Long studentId) {
+        this(word.getId(), word.getCourse() != null ? word.getCourse().getId() : null, studentId, word.getWord());
+    }
+
+    /**
+     * 단어 정보만으로 새로운 게임 세션을 시작합니다. (단어 엔티티를 조회하지 않고 시작할 때 사용)
+     * @param wordId    단어 ID
+     * @param courseId  단어가 속한 반 ID
+     * @param studentId 게임을 진행하는 사용자 ID
+     * @param text      이번 게임에서 맞춰야 할 단어
+     */
+    public GameSession(Long wordId, Long courseId, Long studentId, String text) {
+        this.wordId = wordId;
+        this.courseId = courseId;
+        this.studentId = studentId;
+        this.wordText = text;
+        this.wordMask = toLetterMask(text);
+
+        // 1. 알파벳별 등장 횟수를 세어 각 알파벳의 시작 위치를 계산
+        this.letterStart = new int[27];
+        for (int i = 0; i < text.length(); i++) {
+            int index = letterIndex(text.charAt(i));
+            if (index >= 0) {
+                letterStart[index + 1]++;
+            }
+        }
+        for (int i = 0; i < 26; i++) {
+            letterStart[i + 1] += letterStart[i];
+        }
+
+        // 2. 알파벳별 위치 채우기 + 처음 가려진 상태의 버퍼 만들기 (글자 사이는 공백)
+        this.letterPositions = new int[letterStart[26]];
+        int[] next = new int[26];
+        this.maskedChars = new char[Math.max(text.length() * 2 - 1, 0)];
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            int index = letterIndex(c);
+            if (index >= 0) {
+                letterPositions[letterStart[index] + next[index]++] = i;
+                maskedChars[i * 2] = '_';
+            } else {
+                // 알파벳이 아닌 문자는 처음부터 보여줌
+                maskedChars[i * 2] = c;
+            }
+            if (i > 0) {
+                maskedChars[i * 2 - 1] = ' ';
+            }
+        }
     }
 
     /**
@@ -61,43 +164,41 @@ public class GameSession {
      * @return 가려진 형태의 단어 상태
      */
     public String getMaskedWord() {
-        StringBuilder masked = new StringBuilder();
-        // 단어의 각 글자를 하나씩 확인
-        for (char c : word.getWord().toCharArray()) {
-            if (guessedLetters.contains(Character.toUpperCase(c))) {
-                // 이미 맞춘 글자라면 그대로 보여줌
-                masked.append(c);
-            } else {
-                // 아직 못 맞춘 글자는 '_'로 표시
-                masked.append("_");
-            }
-            // 글자 사이에 공백 추가 (가독성을 위해)
-            masked.append(" ");
+        // 마지막으로 글자가 공개된 이후 변화가 없다면 캐시된 문자열을 그대로 반환
+        if (maskedWordCache == null) {
+            maskedWordCache = new String(maskedChars).trim();
         }
-        // 마지막 공백을 제거하고 결과 반환
-        return masked.toString().trim();
+        return maskedWordCache;
     }
 
     /**
      * 학생이 추측한 알파벳을 처리합니다.
+     * 비트 연산만 사용하므로 추측할 때마다 새로운 객체를 만들지 않습니다.
      * @param letter 학생이 추측한 알파벳
      * @return true: 정상 처리됨, false: 이미 시도한 알파벳
+     * @throws IllegalArgumentException 알파벳(A~Z)이 아닌 문자를 추측한 경우
      */
     public boolean guessLetter(char letter) {
-        // 입력된 알파벳을 대문자로 변환 (대소문자 구분 없이 처리)
-        letter = Character.toUpperCase(letter);
+        // 대소문자 구분 없이 알파벳에 해당하는 비트를 구함
+        int bit = letterBit(letter);
+        if (bit == 0) {
+            throw new IllegalArgumentException("Invalid letter");
+        }
 
         // 이미 시도한 알파벳인지 확인
-        if (guessedLetters.contains(letter)) {
+        if ((guessedMask & bit) != 0) {
             return false;  // 중복 시도는 실패 처리
         }
 
         // 시도한 알파벳 목록에 추가
-        guessedLetters.add(letter);
+        guessedMask |= bit;
 
-        // 단어에 이 알파벳이 없다면 틀린 목록에 추가
-        if (!word.getWord().toUpperCase().contains(String.valueOf(letter))) {
-            wrongLetters.add(letter);
+        if ((wordMask & bit) == 0) {
+            // 단어에 이 알파벳이 없다면 틀린 목록에 추가
+            wrongMask |= bit;
+        } else {
+            // 맞췄다면 이 알파벳이 있는 위치만 공개
+            revealPositions(Integer.numberOfTrailingZeros(bit));
         }
 
         // 게임 상태 업데이트 (종료 여부, 성공 여부 등 확인)
@@ -114,6 +215,40 @@ public class GameSession {
         isSuccess = false;   // 실패로 처리
     }
 
+    /**
+     * 게임 상태가 바뀔 때마다 1씩 증가하는 버전을 반환합니다. (새 알파벳 추측, 포기)
+     * 따로 저장하지 않고 현재 상태에서 계산하므로 힙 밖으로 옮겼다가 되살리거나 저널에서 복원해도 값이 유지됩니다.
+     * 포기는 틀린 횟수가 최대 시도 횟수보다 적은데 실패로 끝난 경우로 구분합니다.
+     * @return 추측한 알파벳 수 (포기했다면 +1)
+     */
+    public int getVersion() {
+        boolean forfeited = isComplete && !isSuccess && Integer.bitCount(wrongMask) < maxAttempts;
+        return Integer.bitCount(guessedMask) + (forfeited ? 1 : 0);
+    }
+
+    /**
+     * 알파벳이 단어에 들어있는지 확인합니다.
+     * @param letter 확인할 알파벳 (대소문자 구분 없음)
+     * @return 단어에 들어있다면 true
+     */
+    public boolean hasLetter(char letter) {
+        int bit = letterBit(letter);
+        return bit != 0 && (wordMask & bit) != 0;
+    }
+
+    /**
+     * 알파벳이 단어 안에서 등장하는 위치들을 반환합니다.
+     * @param letter 확인할 알파벳 (대소문자 구분 없음)
+     * @return 등장 위치(0부터 시작) 배열, 단어에 없는 알파벳이라면 빈 배열
+     */
+    public int[] getLetterPositions(char letter) {
+        int index = letterIndex(letter);
+        if (index < 0) {
+            return new int[0];
+        }
+        return Arrays.copyOfRange(letterPositions, letterStart[index], letterStart[index + 1]);
+    }
+
     /**
      * 현재 게임 상태를 확인하고 업데이트합니다.
      * 1. 최대 시도 횟수 초과 여부 확인
@@ -121,36 +256,196 @@ public class GameSession {
      */
     private void checkGameStatus() {
         // 틀린 횟수가 최대 시도 횟수를 넘으면 게임 종료
-        if (wrongLetters.size() >= maxAttempts) {
+        if (Integer.bitCount(wrongMask) >= maxAttempts) {
             isComplete = true;
             return;
         }
 
-        // 단어의 모든 알파벳을 맞췄는지 확인
-        isSuccess = word.getWord().toUpperCase()  // 단어를 대문자로 변환
-                .chars()                          // 문자열을 문자 스트림으로 변환
-                .mapToObj(c -> (char) c)         // int를 char로 변환
-                .allMatch(guessedLetters::contains);  // 모든 글자가 맞춰졌는지 확인
+        // 단어의 모든 알파벳 비트가 시도한 알파벳 비트에 포함되어 있는지 확인
+        isSuccess = (guessedMask & wordMask) == wordMask;
 
         // 성공했다면 게임 종료 표시
         isComplete = isSuccess;
     }
 
+    /**
+     * 맞춘 알파벳이 등장하는 위치만 가려진 단어 버퍼에 공개하고 캐시를 비웁니다.
+     * @param index 공개할 알파벳 번호 (0 = 'A')
+     */
+    private void revealPositions(int index) {
+        String text = wordText;
+        for (int i = letterStart[index]; i < letterStart[index + 1]; i++) {
+            int position = letterPositions[i];
+            maskedChars[position * 2] = text.charAt(position);
+        }
+        maskedWordCache = null;
+    }
+
+    /**
+     * 알파벳 번호를 반환합니다. (대소문자 구분 없음)
+     * @param c 확인할 문자
+     * @return 'A'~'Z'라면 0~25, 알파벳이 아니라면 -1
+     */
+    private static int letterIndex(char c) {
+        int index = Character.toUpperCase(c) - 'A';
+        return (index >= 0 && index < 26) ? index : -1;
+    }
+
+    /**
+     * 추측할 수 있는 문자인지 확인합니다. (대소문자 구분 없음)
+     * @param c 확인할 문자
+     * @return 'A'~'Z'라면 true
+     */
+    public static boolean isLetter(char c) {
+        return letterIndex(c) >= 0;
+    }
+
+    /**
+     * 알파벳 하나에 해당하는 비트를 반환합니다. (대소문자 구분 없음)
+     * @param c 확인할 문자
+     * @return 'A'~'Z'라면 해당 비트, 알파벳이 아니라면 0
+     */
+    private static int letterBit(char c) {
+        int index = letterIndex(c);
+        return index >= 0 ? 1 << index : 0;
+    }
+
+    /**
+     * 문자열에 들어있는 알파벳들을 비트로 모읍니다.
+     * @param text 변환할 문자열
+     * @return 알파벳 비트들을 합친 값
+     */
+    private static int toLetterMask(String text) {
+        int mask = 0;
+        for (int i = 0; i < text.length(); i++) {
+            mask |= letterBit(text.charAt(i));
+        }
+        return mask;
+    }
+
+    /**
+     * 비트로 저장된 알파벳들을 A부터 Z 순서의 Set으로 변환합니다.
+     * @param mask 변환할 비트 값
+     * @return 알파벳 Set
+     */
+    private static Set<Character> toLetterSet(int mask) {
+        Set<Character> letters = new LinkedHashSet<>();
+        for (int bits = mask; bits != 0; bits &= bits - 1) {
+            letters.add((char) ('A' + Integer.numberOfTrailingZeros(bits)));
+        }
+        return letters;
+    }
+
+    /**
+     * 이 세션을 압축 형태로 저장할 수 있는지 확인합니다.
+     * @return 단어가 짧고 ASCII 문자로만 이루어져 있다면 true
+     */
+    public boolean isCompactable() {
+        if (wordText.length() > MAX_COMPACT_WORD_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < wordText.length(); i++) {
+            if (wordText.charAt(i) > 0x7F) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 세션 상태를 COMPACT_SIZE 바이트의 압축 형태로 기록합니다.
+     * 위치 색인과 가려진 단어 버퍼는 단어와 추측 비트로 다시 만들 수 있으므로 저장하지 않습니다.
+     * @param buffer 기록할 버퍼
+     * @param offset 기록을 시작할 위치
+     */
+    public void writeTo(ByteBuffer buffer, int offset) {
+        buffer.putLong(offset, wordId != null ? wordId : 0L);       // ID가 없으면 0으로 저장
+        buffer.putLong(offset + 8, courseId != null ? courseId : 0L);
+        buffer.putLong(offset + 16, studentId != null ? studentId : 0L);
+        buffer.putInt(offset + 24, guessedMask);
+        buffer.putInt(offset + 28, wrongMask);
+        buffer.put(offset + 32, (byte) ((isComplete ? FLAG_COMPLETE : 0) | (isSuccess ? FLAG_SUCCESS : 0)));
+        buffer.put(offset + 33, (byte) wordText.length());
+        for (int i = 0; i < wordText.length(); i++) {
+            buffer.put(offset + 34 + i, (byte) wordText.charAt(i));
+        }
+    }
+
+    /**
+     * writeTo로 기록한 압축 형태에서 세션을 다시 만듭니다.
+     * @param buffer 읽을 버퍼
+     * @param offset 읽기 시작할 위치
+     * @return 복원된 게임 세션
+     */
+    public static GameSession readFrom(ByteBuffer buffer, int offset) {
+        long wordId = buffer.getLong(offset);
+        long courseId = buffer.getLong(offset + 8);
+        long studentId = buffer.getLong(offset + 16);
+        char[] text = new char[buffer.get(offset + 33)];
+        for (int i = 0; i < text.length; i++) {
+            text[i] = (char) buffer.get(offset + 34 + i);
+        }
+
+        GameSession session = new GameSession(wordId != 0L ? wordId : null, courseId != 0L ? courseId : null,
+                studentId != 0L ? studentId : null, new String(text));
+        session.guessedMask = buffer.getInt(offset + 24);
+        session.wrongMask = buffer.getInt(offset + 28);
+        int flags = buffer.get(offset + 32);
+        session.isComplete = (flags & FLAG_COMPLETE) != 0;
+        session.isSuccess = (flags & FLAG_SUCCESS) != 0;
+
+        // 이미 맞춘 알파벳 위치를 가려진 단어 버퍼에 다시 공개
+        for (int bits = session.guessedMask & session.wordMask; bits != 0; bits &= bits - 1) {
+            session.revealPositions(Integer.numberOfTrailingZeros(bits));
+        }
+        return session;
+    }
+
     // Getter 메소드들
     /**
-     * @return 현재 게임의 단어
+     * @return 현재 게임 단어의 ID
+     */
+    public Long getWordId() { return wordId; }
+
+    /**
+     * @return 현재 게임 단어가 속한 반의 ID
+     */
+    public Long getCourseId() { return courseId; }
+
+    /**
+     * @return 게임을 진행하는 사용자 ID
+     */
+    public Long getStudentId() { return studentId; }
+
+    /**
+     * @return 현재 게임의 단어 (예: "CAT")
+     */
+    public String getWordText() { return wordText; }
+
+    /**
+     * @return 지금까지 시도한 모든 알파벳 Set (A부터 Z 순서)
+     */
+    public Set<Character> getGuessedLetters() { return toLetterSet(guessedMask); }
+
+    /**
+     * @return 틀린 알파벳들의 Set (A부터 Z 순서)
+     */
+    public Set<Character> getWrongLetters() { return toLetterSet(wrongMask); }
+
+    /**
+     * @return 지금까지 시도한 알파벳 비트 값 (0번 비트 = 'A')
      */
-    public Word getWord() { return word; }
+    public int getGuessedMask() { return guessedMask; }
 
     /**
-     * @return 지금까지 시도한 모든 알파벳 Set
+     * @return 틀린 알파벳 비트 값 (0번 비트 = 'A')
      */
-    public Set<Character> getGuessedLetters() { return guessedLetters; }
+    public int getWrongMask() { return wrongMask; }
 
     /**
-     * @return 틀린 알파벳들의 Set
+     * @return 틀린 횟수 (Set을 만들지 않고 비트 개수로 계산)
      */
-    public Set<Character> getWrongLetters() { return wrongLetters; }
+    public int getWrongCount() { return Integer.bitCount(wrongMask); }
 
     /**
      * @return 최대 시도 가능 횟수 (10)
@@ -0,0 +1,59 @@
+package com.estelle.hangman.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * 학생이 복습해야 할 단어 하나의 복습 일정을 저장하는 엔티티입니다.
+ * 학생이 틀린 단어마다 한 행이 만들어지고, 그 단어로 게임을 끝낼 때마다 같은 행을 갱신합니다.
+ *
+ * 게임 기록을 다시 읽지 않고도 복습 일정을 되살릴 수 있도록 SM-2 일정에 필요한 값만 작은 정수형으로 보관합니다.
+ */
+@Entity  // 이 클래스가 데이터베이스 테이블과 연결된다는 표시
+@Table(name = "review_item")  // 실제 데이터베이스의 'review_item' 테이블과 연결
+@IdClass(ReviewItem.Key.class)  // 학생 ID + 단어 ID를 함께 기본 키로 사용
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReviewItem {
+
+    @Id
+    private Long studentId;  // 학생 ID
+
+    @Id
+    private Long wordId;  // 복습할 단어 ID
+
+    @Column(nullable = false)
+    private LocalDate dueDate;  // 다음 복습 날짜
+
+    @Column(nullable = false)
+    private Short intervalDays;  // 현재 복습 간격 (일)
+
+    @Column(nullable = false)
+    private Short ease;  // 난이도 계수 x 100 (예: 250 = 2.5)
+
+    @Column(nullable = false)
+    private Byte repetitions;  // 연속으로 맞힌 횟수 (틀리면 0)
+
+    /**
+     * 학생 ID + 단어 ID로 이루어진 기본 키
+     */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private Long studentId;
+        private Long wordId;
+    }
+}
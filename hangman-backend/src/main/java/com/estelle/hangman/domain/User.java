@@ -17,7 +17,7 @@ import java.time.LocalDateTime;
 public class User {  // User(사용자) 클래스 시작
 
     @Id  // 고유 식별자(primary key)라는 표시
-    @GeneratedValue(strategy = GenerationType.IDENTITY)  // ID를 자동으로 1씩 증가시켜 생성
+    @BlockId("users")  // 미리 예약한 ID 블록에서 번호를 받음 (INSERT 전에 ID가 정해져 batch insert 가능)
     private Long id;  // 각 사용자의 고유 번호
 
     @Column(nullable = false, unique = true)  // 필수값이며, 중복될 수 없음
@@ -17,7 +17,7 @@ import java.time.LocalDateTime;
 public class Word {  // Word(단어) 클래스 시작
 
     @Id  // 고유 식별자(primary key) 표시
-    @GeneratedValue(strategy = GenerationType.IDENTITY)  // ID 자동 생성
+    @BlockId("words")  // 미리 예약한 ID 블록에서 번호를 받음 (INSERT 전에 ID가 정해져 batch insert 가능)
     private Long id;  // 각 단어의 고유 번호
 
     @Column(nullable = false)  // 필수값
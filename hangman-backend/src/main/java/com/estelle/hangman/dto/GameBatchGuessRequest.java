@@ -0,0 +1,14 @@
+package com.estelle.hangman.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+// 여러 글자를 한 번에 추측할 때 사용하는 클래스 (느린 네트워크에서 글자를 모아서 보낼 때)
+@Getter
+@Setter
+public class GameBatchGuessRequest {
+    // 추측할 알파벳들 (보낸 순서대로 적용됨, 예: ['E', 'A', 'T'])
+    private List<Character> letters;
+}
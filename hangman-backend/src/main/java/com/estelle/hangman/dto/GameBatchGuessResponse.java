@@ -0,0 +1,20 @@
+package com.estelle.hangman.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+// 여러 글자를 한 번에 추측한 뒤 서버가 보내는 결과를 정의하는 클래스
+@Getter
+@Builder
+public class GameBatchGuessResponse {
+    // 실제로 적용된 글자 수 (중간에 게임이 끝나면 나머지 글자는 적용되지 않음)
+    private int appliedCount;
+
+    // 적용된 글자 중 단어에 들어 있던(맞힌) 알파벳들
+    private List<Character> hitLetters;
+
+    // 모든 글자를 적용한 뒤의 최종 게임 상태
+    private GameGuessResponse result;
+}
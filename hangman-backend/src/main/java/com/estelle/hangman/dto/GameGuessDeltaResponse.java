@@ -0,0 +1,40 @@
+package com.estelle.hangman.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Getter;
+
+// 글자 추측 후 바뀐 부분만 보내는 간단한 응답을 정의하는 클래스 (compact 모드)
+// 값이 없는 필드는 JSON에 포함하지 않아 응답 크기를 줄입니다.
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class GameGuessDeltaResponse {
+    // 이번 응답 이후의 게임 상태 버전 (다음 요청의 knownVersion으로 보내면 됨)
+    private int version;
+
+    // true라면 변경분이 아닌 전체 상태 (클라이언트가 중간 상태를 놓친 경우)
+    private boolean full;
+
+    // 이번에 새로 공개된 글자와 그 위치들 (0부터 시작, 예: 'L' -> [2, 3])
+    private Character revealedLetter;
+    private int[] revealedPositions;
+
+    // 이번에 새로 틀린 알파벳
+    private Character wrongLetter;
+
+    // 전체 상태일 때만: 현재까지의 진행 상태 (예: "C _ T")
+    private String maskedWord;
+
+    // 전체 상태일 때만: 틀린 알파벳들을 이어붙인 문자열 (예: "QZ")
+    private String wrongLetters;
+
+    // 남은 시도 횟수
+    private int remainingAttempts;
+
+    // 게임이 끝났는지 여부
+    private boolean isComplete;
+
+    // 성공/실패 여부
+    private boolean isSuccess;
+}
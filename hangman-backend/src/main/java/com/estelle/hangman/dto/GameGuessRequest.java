@@ -12,4 +12,7 @@ public class GameGuessRequest {
 
     // 추측하는 알파벳 (예: 'A', 'B', 'C' 등)
     private char letter;
+
+    // compact 모드에서 클라이언트가 마지막으로 받은 게임 상태 버전 (변경분 계산 기준, 없으면 전체 상태)
+    private Integer knownVersion;
 }
\ No newline at end of file
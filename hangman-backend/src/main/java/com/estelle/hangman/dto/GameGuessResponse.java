@@ -26,4 +26,7 @@ public class GameGuessResponse {
 
     // 성공/실패 여부
     private boolean isSuccess;
+
+    // 게임 상태 버전 (compact 모드로 추측할 때 knownVersion으로 사용)
+    private int version;
 }
\ No newline at end of file
@@ -0,0 +1,18 @@
+package com.estelle.hangman.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+// 진행 중인 게임에서 다음에 시도할 알파벳을 추천하는 응답을 정의하는 클래스
+@Getter
+@Builder
+public class GameHintResponse {
+    // 힌트를 요청한 게임 ID
+    private Long gameId;
+
+    // 추천 알파벳 (아직 시도하지 않은 알파벳 중 하나)
+    private char letter;
+
+    // 추천 알파벳이 단어에 들어 있을 확률 (0~1, 진행 상태와 맞는 반의 단어 중 이 알파벳이 들어 있는 비율)
+    private double probability;
+}
@@ -1,5 +1,6 @@
 package com.estelle.hangman.dto;
 
+import com.estelle.hangman.domain.GameMode;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -14,4 +15,7 @@ public class GameStartRequest {
     private Long teacherId;
 
     // 학생의 경우 이 두 필드가 모두 null - 자신의 반과 선생님으로 자동 설정됨
+
+    // 단어 출제 방식 (학생만 사용, null이면 RANDOM)
+    private GameMode mode;
 }
\ No newline at end of file
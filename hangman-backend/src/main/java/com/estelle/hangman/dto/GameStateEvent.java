@@ -0,0 +1,24 @@
+package com.estelle.hangman.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+// 게임 상태가 바뀔 때 실시간 스트림(SSE)으로 보내는 간단한 상태 정보를 정의하는 클래스
+@Getter
+@Builder
+public class GameStateEvent {
+    // 현재까지의 진행 상태 (예: "C _ T")
+    private String maskedWord;
+
+    // 남은 시도 횟수
+    private int remainingAttempts;
+
+    // 틀린 알파벳들을 이어붙인 문자열 (예: "QZ")
+    private String wrongLetters;
+
+    // 게임이 끝났는지 여부
+    private boolean isComplete;
+
+    // 성공/실패 여부
+    private boolean isSuccess;
+}
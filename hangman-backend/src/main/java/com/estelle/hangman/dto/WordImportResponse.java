@@ -0,0 +1,32 @@
+package com.estelle.hangman.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+// 단어를 한꺼번에 등록(import)한 뒤 서버가 보내는 결과를 정의하는 클래스
+@Getter
+@Builder
+public class WordImportResponse {
+    // 새로 등록된 단어 수
+    private int importedCount;
+
+    // 반에 이미 있거나 파일 안에서 중복되어 건너뛴 단어 수
+    private int duplicateCount;
+
+    // 형식이 잘못되어 건너뛴 행 수
+    private int errorCount;
+
+    // 잘못된 행의 위치와 이유 (앞에서부터 최대 1000개까지만 담음)
+    private List<RowError> errors;
+
+    // 잘못된 행 하나의 정보
+    @Getter
+    @AllArgsConstructor
+    public static class RowError {
+        private long line;       // 몇 번째 줄인지 (1부터 시작)
+        private String message;  // 무엇이 잘못되었는지
+    }
+}
@@ -0,0 +1,17 @@
+package com.estelle.hangman.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+// 단어 목록을 한 페이지씩 조회할 때 서버가 보내는 응답 데이터를 정의하는 클래스
+@Getter
+@Builder
+public class WordPageResponse {
+    // 이번 페이지의 단어들 (ID 오름차순)
+    private List<WordResponse> words;
+
+    // 다음 페이지를 조회할 때 after로 넘길 값 (마지막 페이지라면 null)
+    private Long nextCursor;
+}
@@ -1,5 +1,6 @@
 package com.estelle.hangman.dto;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import java.time.LocalDateTime;
@@ -7,6 +8,7 @@ import java.time.LocalDateTime;
 // 단어 정보를 조회할 때 서버가 클라이언트에게 보내는 응답 데이터를 정의하는 클래스
 @Getter   // Lombok: 모든 필드의 getter 메소드 자동 생성
 @Builder  // Lombok: 빌더 패턴 구현을 자동화 (객체 생성을 더 유연하게 함)
+@AllArgsConstructor  // Lombok: 모든 필드를 받는 생성자 (JPQL 프로젝션 쿼리에서 바로 생성할 때 사용)
 public class WordResponse {
     private Long id;               // 단어의 고유 ID
     private String word;           // 단어
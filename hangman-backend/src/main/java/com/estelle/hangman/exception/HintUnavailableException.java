@@ -0,0 +1,7 @@
+package com.estelle.hangman.exception;
+
+public class HintUnavailableException extends RuntimeException {
+    public HintUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.estelle.hangman.exception;
+
+public class InvalidGuessException extends RuntimeException {
+    public InvalidGuessException(String message) {
+        super(message);
+    }
+}
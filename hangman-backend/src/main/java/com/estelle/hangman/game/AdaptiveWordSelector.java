@@ -0,0 +1,245 @@
+package com.estelle.hangman.game;
+
+import com.estelle.hangman.game.WordPool.PooledWord;
+import com.estelle.hangman.repository.GameHistoryRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 학생의 실력에 맞는 난이도의 단어를 고르는 적응형 출제기입니다.
+ *
+ * - 단어마다 실제 성공률(성공 수 / 게임 수)을, 학생마다 최근 승률(지수 이동 평균)을 메모리에 보관하고
+ *   게임 기록이 저장될 때마다 조금씩 갱신합니다. (출제할 때 게임 기록을 조회하지 않음)
+ * - 게임 수가 적은 단어는 선생님이 정한 난이도(1~5)를 사전 값으로 섞어서 성공률을 추정합니다.
+ * - 반/선생님별로 단어를 성공률 구간(band) 10개로 나눈 색인을 두고,
+ *   학생의 승률로 목표 구간을 정해 그 구간(비어 있으면 가까운 구간)에서 무작위로 고릅니다.
+ * - 단어가 다른 구간으로 옮겨지거나 단어가 추가/삭제되면 해당 반의 색인만 다음 출제 때 다시 만듭니다.
+ */
+@Slf4j
+@Component
+public class AdaptiveWordSelector {
+
+    /**
+     * 성공률 구간 수 (구간 i = 성공률 i/10 ~ (i+1)/10)
+     */
+    static final int BANDS = 10;
+
+    /**
+     * 선생님 난이도를 몇 게임만큼의 사전 값으로 반영할지
+     */
+    private static final double PRIOR_GAMES = 5.0;
+
+    /**
+     * 학생 최근 승률의 갱신 비율 (최근 게임일수록 크게 반영)
+     */
+    private static final double SKILL_ALPHA = 0.2;
+
+    /**
+     * 기록이 없는 학생의 승률
+     */
+    private static final double DEFAULT_SKILL = 0.5;
+
+    private final WordPool wordPool;
+    private final GameHistoryRepository gameHistoryRepository;
+
+    /**
+     * 단어 ID를 Key로 하는 단어별 게임 결과
+     */
+    private final Map<Long, WordStats> wordStats = new ConcurrentHashMap<>();
+
+    /**
+     * 학생 ID를 Key로 하는 학생별 최근 승률
+     */
+    private final Map<Long, StudentSkill> studentSkills = new ConcurrentHashMap<>();
+
+    /**
+     * (반, 선생님)별 성공률 구간 색인
+     */
+    private final Map<CourseTeacher, BandIndex> indexes = new ConcurrentHashMap<>();
+
+    public AdaptiveWordSelector(WordPool wordPool, GameHistoryRepository gameHistoryRepository) {
+        this.wordPool = wordPool;
+        this.gameHistoryRepository = gameHistoryRepository;
+    }
+
+    /**
+     * 서버 시작 시 단어별/학생별 게임 결과를 집계 쿼리 한 번씩으로 불러옵니다.
+     */
+    @PostConstruct
+    public void load() {
+        long startTime = System.nanoTime();
+        for (Object[] row : gameHistoryRepository.countResultsByWord()) {
+            WordStats stats = new WordStats();
+            stats.plays = ((Number) row[1]).longValue();
+            stats.wins = ((Number) row[2]).longValue();
+            wordStats.put((Long) row[0], stats);
+        }
+        for (Object[] row : gameHistoryRepository.countResultsByStudent()) {
+            long plays = ((Number) row[1]).longValue();
+            long wins = ((Number) row[2]).longValue();
+            studentSkills.put((Long) row[0], new StudentSkill(plays > 0 ? (double) wins / plays : DEFAULT_SKILL));
+        }
+        log.info("Loaded adaptive stats for {} words and {} students in {}ms", wordStats.size(), studentSkills.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+    }
+
+    /**
+     * 끝난 게임의 결과를 단어 성공률과 학생 승률에 반영합니다.
+     *
+     * @param studentId 게임을 진행한 학생 ID
+     * @param wordId    게임 단어 ID
+     * @param success   성공 여부
+     */
+    public void recordResult(Long studentId, Long wordId, boolean success) {
+        studentSkills.computeIfAbsent(studentId, id -> new StudentSkill(DEFAULT_SKILL)).update(success);
+
+        PooledWord word = wordPool.get(wordId);
+        WordStats stats = wordStats.computeIfAbsent(wordId, id -> new WordStats());
+        int bandBefore;
+        int bandAfter;
+        synchronized (stats) {
+            bandBefore = word != null ? band(stats, word) : -1;
+            stats.plays++;
+            if (success) {
+                stats.wins++;
+            }
+            bandAfter = word != null ? band(stats, word) : -1;
+        }
+
+        // 단어가 다른 구간으로 옮겨졌다면 해당 반의 색인을 다음 출제 때 다시 만듦
+        if (bandBefore != bandAfter) {
+            BandIndex index = indexes.get(new CourseTeacher(word.getCourseId(), word.getTeacherId()));
+            if (index != null) {
+                index.stale = true;
+            }
+        }
+    }
+
+    /**
+     * 학생의 최근 승률에 맞는 난이도의 단어를 고릅니다.
+     *
+     * @return 단어, 반에 단어가 하나도 없다면 null
+     */
+    public PooledWord select(Long studentId, Long courseId, Long teacherId) {
+        CourseTeacher key = new CourseTeacher(courseId, teacherId);
+        PooledWord[] words = wordPool.wordsByCourseAndTeacher(courseId, teacherId);
+        if (words.length == 0) {
+            return null;
+        }
+
+        BandIndex index = indexes.get(key);
+        if (index == null || index.stale || index.source != words) {
+            index = buildIndex(words);
+            indexes.put(key, index);
+        }
+
+        StudentSkill skill = studentSkills.get(studentId);
+        int target = targetBand(skill != null ? skill.winRate : DEFAULT_SKILL);
+
+        // 목표 구간부터 가까운 구간 순서로 찾음 (target, target+1, target-1, target+2, ...)
+        for (int distance = 0; distance < BANDS; distance++) {
+            for (int band : new int[]{target + distance, target - distance}) {
+                if (band >= 0 && band < BANDS && index.bands[band].length > 0) {
+                    PooledWord[] candidates = index.bands[band];
+                    return candidates[ThreadLocalRandom.current().nextInt(candidates.length)];
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 학생 승률로 목표 구간을 정합니다.
+     * 평균(승률 0.5)인 학생은 다른 학생들이 70% 정도 맞히는 단어를,
+     * 잘하는 학생일수록 성공률이 낮은(어려운) 단어를 받습니다. (승률 0.9 -> 약 46%, 0.3 -> 약 82%)
+     */
+    static int targetBand(double winRate) {
+        double targetSuccess = 1.0 - 0.6 * winRate;
+        return Math.min(BANDS - 1, Math.max(0, (int) (targetSuccess * BANDS)));
+    }
+
+    private BandIndex buildIndex(PooledWord[] words) {
+        List<List<PooledWord>> bands = new ArrayList<>(BANDS);
+        for (int i = 0; i < BANDS; i++) {
+            bands.add(new ArrayList<>());
+        }
+        for (PooledWord word : words) {
+            WordStats stats = wordStats.get(word.getId());
+            int band;
+            if (stats == null) {
+                band = band(0, 0, word);
+            } else {
+                synchronized (stats) {
+                    band = band(stats, word);
+                }
+            }
+            bands.get(band).add(word);
+        }
+
+        PooledWord[][] arrays = new PooledWord[BANDS][];
+        for (int i = 0; i < BANDS; i++) {
+            arrays[i] = bands.get(i).toArray(new PooledWord[0]);
+        }
+        return new BandIndex(words, arrays);
+    }
+
+    private static int band(WordStats stats, PooledWord word) {
+        return band(stats.wins, stats.plays, word);
+    }
+
+    /**
+     * 선생님 난이도를 사전 값으로 섞은 추정 성공률의 구간을 구합니다.
+     * 난이도 1 -> 사전 성공률 0.9, 난이도 5 -> 0.5
+     */
+    static int band(long wins, long plays, PooledWord word) {
+        int difficulty = word.getDifficulty() != null ? word.getDifficulty() : 3;
+        double prior = 1.0 - 0.1 * difficulty;
+        double success = (wins + prior * PRIOR_GAMES) / (plays + PRIOR_GAMES);
+        return Math.min(BANDS - 1, Math.max(0, (int) (success * BANDS)));
+    }
+
+    /**
+     * 단어 하나의 게임 수와 성공 수 (이 객체를 잠그고 읽고 씀)
+     */
+    private static final class WordStats {
+        private long plays;
+        private long wins;
+    }
+
+    /**
+     * 학생 한 명의 최근 승률 (지수 이동 평균)
+     */
+    private static final class StudentSkill {
+        private volatile double winRate;
+
+        private StudentSkill(double winRate) {
+            this.winRate = winRate;
+        }
+
+        private synchronized void update(boolean success) {
+            winRate = winRate * (1 - SKILL_ALPHA) + (success ? SKILL_ALPHA : 0.0);
+        }
+    }
+
+    /**
+     * 한 반의 성공률 구간 색인 (만든 뒤에는 바꾸지 않고, 필요하면 통째로 다시 만듦)
+     */
+    private static final class BandIndex {
+        private final PooledWord[] source;
+        private final PooledWord[][] bands;
+        private volatile boolean stale;
+
+        private BandIndex(PooledWord[] source, PooledWord[][] bands) {
+            this.source = source;
+            this.bands = bands;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.estelle.hangman.game;
+
+import com.estelle.hangman.game.WordPool.CategoryStats;
+import com.estelle.hangman.game.WordPool.PooledWord;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 카테고리별 단어 수와 난이도 합계를 보관하는 요약입니다. (WordPool이 단어를 바꿀 때 함께 갱신함)
+ *
+ * - 단어가 추가/삭제될 때마다 해당 카테고리의 합계만 고치고 버전을 올립니다.
+ * - 조회할 때는 마지막으로 만든 목록의 버전이 현재 버전과 같으면 그 목록을 그대로 돌려주고,
+ *   다르면 카테고리 수만큼만 다시 계산합니다. (단어 행을 읽지 않음)
+ * - 합계 변경과 목록 재계산은 이 객체를 잠그고 합니다.
+ */
+final class CategorySummary {
+
+    /**
+     * 카테고리 이름 순으로 정렬된 [단어 수, 난이도 합계]
+     */
+    private final Map<String, long[]> totals = new TreeMap<>();
+
+    /**
+     * 단어가 바뀔 때마다 1씩 늘어나는 버전
+     */
+    private volatile long version;
+
+    /**
+     * 마지막으로 만든 목록과 그때의 버전
+     */
+    private volatile Snapshot snapshot = new Snapshot(-1, List.of());
+
+    synchronized void add(PooledWord word) {
+        if (word.getCategory() == null) {
+            return;
+        }
+        long[] total = totals.computeIfAbsent(word.getCategory(), k -> new long[2]);
+        total[0]++;
+        total[1] += difficultyOf(word);
+        version = version + 1;
+    }
+
+    synchronized void remove(PooledWord word) {
+        long[] total = word.getCategory() != null ? totals.get(word.getCategory()) : null;
+        if (total == null) {
+            return;
+        }
+        if (--total[0] == 0) {
+            totals.remove(word.getCategory());
+        } else {
+            total[1] -= difficultyOf(word);
+        }
+        version = version + 1;
+    }
+
+    /**
+     * @return 카테고리 이름 순의 통계 (수정할 수 없는 목록)
+     */
+    List<CategoryStats> categories() {
+        Snapshot current = snapshot;
+        if (current.version == version) {
+            return current.categories;  // 바뀐 단어가 없다면 잠금 없이 반환
+        }
+        synchronized (this) {
+            List<CategoryStats> categories = new ArrayList<>(totals.size());
+            totals.forEach((category, total) ->
+                    categories.add(new CategoryStats(category, (int) total[0], (double) total[1] / total[0])));
+            snapshot = new Snapshot(version, Collections.unmodifiableList(categories));
+            return snapshot.categories;
+        }
+    }
+
+    private static int difficultyOf(PooledWord word) {
+        return word.getDifficulty() != null ? word.getDifficulty() : 0;
+    }
+
+    private record Snapshot(long version, List<CategoryStats> categories) {
+    }
+}
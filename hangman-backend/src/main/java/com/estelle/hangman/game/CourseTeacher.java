@@ -0,0 +1,8 @@
+package com.estelle.hangman.game;
+
+/**
+ * (반 ID, 선생님 ID) 묶음 Key입니다.
+ * 게임 단어는 반과 그 반을 맡은 선생님으로 나뉘므로, 단어 색인과 반별 색인(적응형 선택, 힌트)이 이 Key로 단어를 묶습니다.
+ */
+record CourseTeacher(Long courseId, Long teacherId) {
+}
@@ -0,0 +1,214 @@
+package com.estelle.hangman.game;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 게임 진행 이벤트(시작, 추측, 포기)를 game_event 테이블에 모아서 저장하는 로그입니다.
+ * 게임이 끝난 뒤에도 추측 순서와 시간을 분석하거나 특정 시점의 상태를 다시 만들 수 있게 합니다.
+ *
+ * - 요청 스레드는 이벤트를 큐에 넣기만 하므로 추측 처리에 DB 왕복이 늘어나지 않습니다.
+ * - 전용 기록 스레드가 큐에 쌓인 이벤트를 한 번의 JDBC batch insert로 저장합니다.
+ * - 분석용 기록이므로 큐가 가득 차면 요청을 기다리게 하지 않고 이벤트를 버린 뒤 개수를 로그로 남깁니다.
+ */
+@Slf4j
+@Component
+public class GameEventLog {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO game_event (game_id, ordinal, letter, hit, offset_ms, word_id, student_id, word_text) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final GameIdGenerator gameIdGenerator;
+
+    private final boolean enabled;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+
+    /**
+     * 요청 스레드 -> 기록 스레드로 이벤트를 넘기는 큐
+     */
+    private final BlockingQueue<Event> queue;
+
+    /**
+     * 큐가 가득 차서 버린 이벤트 수 (다음 저장 때 로그로 남기고 0으로 되돌림)
+     */
+    private final AtomicLong dropped = new AtomicLong();
+
+    private Thread writer;
+    private volatile boolean running;
+
+    public GameEventLog(
+            JdbcTemplate jdbcTemplate,
+            GameIdGenerator gameIdGenerator,
+            @Value("${game.events.enabled:true}") boolean enabled,
+            @Value("${game.events.queue-size:65536}") int queueSize,
+            @Value("${game.events.batch-size:1000}") int batchSize,
+            @Value("${game.events.flush-interval-ms:1000}") long flushIntervalMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.gameIdGenerator = gameIdGenerator;
+        this.enabled = enabled;
+        this.queue = new ArrayBlockingQueue<>(queueSize);
+        this.batchSize = batchSize;
+        this.flushIntervalMillis = flushIntervalMillis;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        writer = new Thread(this::writeLoop, "game-event-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * 서버 종료 시 큐에 남은 이벤트를 모두 저장합니다.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (writer == null) {
+            return;
+        }
+        running = false;
+        writer.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    /**
+     * 게임 시작 이벤트(순번 0)를 기록합니다.
+     *
+     * @param wordText 게임 단어 (재생할 때 단어가 그사이 수정되었더라도 게임 당시의 단어를 사용)
+     */
+    public void recordStart(long gameId, long wordId, long studentId, String wordText) {
+        enqueue(new Event(gameId, 0, null, null, offsetOf(gameId), wordId, studentId, wordText));
+    }
+
+    /**
+     * 글자 추측 이벤트를 기록합니다.
+     *
+     * @param ordinal 게임 안에서의 순번 (추측 후의 GameSession.getVersion())
+     * @param hit     단어에 들어있는 알파벳이었는지
+     */
+    public void recordGuess(long gameId, int ordinal, char letter, boolean hit) {
+        enqueue(new Event(gameId, ordinal, String.valueOf(Character.toUpperCase(letter)), hit,
+                offsetOf(gameId), null, null, null));
+    }
+
+    /**
+     * 게임 포기 이벤트를 기록합니다. (글자 없이 순번만 있는 이벤트)
+     *
+     * @param ordinal 게임 안에서의 순번 (포기 후의 GameSession.getVersion())
+     */
+    public void recordForfeit(long gameId, int ordinal) {
+        enqueue(new Event(gameId, ordinal, null, null, offsetOf(gameId), null, null, null));
+    }
+
+    /**
+     * 게임 ID에 담긴 발급 시각을 기준으로 경과 시간을 구합니다.
+     * (서버가 재시작된 뒤에 이어지는 게임도 같은 기준을 사용)
+     */
+    private int offsetOf(long gameId) {
+        long elapsed = System.currentTimeMillis() - gameIdGenerator.timestampOf(gameId);
+        return (int) Math.min(Math.max(elapsed, 0), Integer.MAX_VALUE);
+    }
+
+    private void enqueue(Event event) {
+        if (enabled && !queue.offer(event)) {
+            dropped.incrementAndGet();
+        }
+    }
+
+    /**
+     * 기록 스레드의 본체: 배치 크기만큼 모이거나 일정 시간이 지나면 한 번에 저장합니다.
+     */
+    private void writeLoop() {
+        List<Event> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Event first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                insert(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                // 저장 실패로 스레드가 죽지 않도록 로그만 남기고 계속 진행
+                log.error("Failed to write {} game events", batch.size(), e);
+            } finally {
+                batch.clear();
+            }
+
+            long lost = dropped.getAndSet(0);
+            if (lost > 0) {
+                log.warn("Dropped {} game events because the event queue was full", lost);
+            }
+        }
+    }
+
+    private void insert(List<Event> batch) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, event) -> {
+            ps.setLong(1, event.gameId);
+            ps.setInt(2, event.ordinal);
+            ps.setString(3, event.letter);
+            if (event.hit != null) {
+                ps.setBoolean(4, event.hit);
+            } else {
+                ps.setNull(4, Types.BOOLEAN);
+            }
+            ps.setInt(5, event.offsetMs);
+            if (event.wordId != null) {
+                ps.setLong(6, event.wordId);
+                ps.setLong(7, event.studentId);
+            } else {
+                ps.setNull(6, Types.BIGINT);
+                ps.setNull(7, Types.BIGINT);
+            }
+            ps.setString(8, event.wordText);
+        });
+    }
+
+    /**
+     * 큐에 담기는 게임 이벤트 하나
+     */
+    private static final class Event {
+        private final long gameId;
+        private final int ordinal;
+        private final String letter;
+        private final Boolean hit;
+        private final int offsetMs;
+        private final Long wordId;
+        private final Long studentId;
+        private final String wordText;
+
+        private Event(long gameId, int ordinal, String letter, Boolean hit, int offsetMs,
+                      Long wordId, Long studentId, String wordText) {
+            this.gameId = gameId;
+            this.ordinal = ordinal;
+            this.letter = letter;
+            this.hit = hit;
+            this.offsetMs = offsetMs;
+            this.wordId = wordId;
+            this.studentId = studentId;
+            this.wordText = wordText;
+        }
+    }
+}
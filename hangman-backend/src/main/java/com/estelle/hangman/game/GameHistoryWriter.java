@@ -0,0 +1,349 @@
+package com.estelle.hangman.game;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 끝난 게임의 기록을 game_history 테이블에 모아서 저장하는 기록기입니다. (write-behind)
+ *
+ * - 요청 스레드는 기록을 큐에 넣기만 하므로, 게임을 끝내는 추측의 응답이 DB 저장을 기다리지 않습니다.
+ * - 전용 기록 스레드가 큐에 쌓인 기록을 한 번의 JDBC batch insert로 저장합니다.
+ *   (rewriteBatchedStatements=true이므로 여러 행을 담은 INSERT 하나로 전송됨)
+ * - DB 연결 끊김 같은 일시적인 오류만 같은 묶음을 간격을 늘려 가며 다시 시도합니다.
+ *   삭제된 단어를 가리키는 행처럼 저장할 수 없는 행은 묶음을 반씩 나눠 찾아내고, 나머지만 저장한 뒤 그 행은 로그로 남깁니다.
+ * - 큐가 가득 차면 요청 스레드가 submit-timeout만큼만 기다리고, 그래도 자리가 없으면 직접 저장합니다.
+ *   요청 스레드는 게임 잠금을 잡고 있으므로 무한히 기다리지 않습니다.
+ * - 서버 종료 시 큐에 남은 기록을 모두 저장한 뒤 멈춥니다. 멈춘 뒤에 들어온 기록은 요청 스레드에서 바로 저장합니다.
+ */
+@Slf4j
+@Component
+public class GameHistoryWriter {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO game_history (id, student_id, word_id, is_success, attempts, wrong_letter_mask, played_at) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    /**
+     * id_block 테이블에서 게임 기록 ID를 예약할 때 쓰는 이름
+     */
+    private static final String ID_BLOCK = "game_history";
+
+    /**
+     * 첫 재시도까지의 대기 시간 (실패할 때마다 두 배로 늘림)
+     */
+    private static final long INITIAL_BACKOFF_MILLIS = 100;
+
+    /**
+     * 서버 종료 중이거나 요청 스레드에서 직접 저장할 때는 이 횟수만큼만 시도하고, 그래도 실패하면 기록 내용을 로그로 남깁니다.
+     */
+    private static final int LIMITED_ATTEMPTS = 3;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final IdBlockAllocator idBlockAllocator;
+
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private final long maxBackoffMillis;
+    private final long submitTimeoutMillis;
+
+    /**
+     * 요청 스레드 -> 기록 스레드로 기록을 넘기는 큐
+     */
+    private final BlockingQueue<Entry> queue;
+
+    /**
+     * 큐가 가득 차서 요청 스레드가 기다리거나 직접 저장한 횟수 (다음 저장 때 로그로 남기고 0으로 되돌림)
+     */
+    private final AtomicLong waited = new AtomicLong();
+
+    private Thread writer;
+    private volatile boolean running;
+
+    public GameHistoryWriter(
+            JdbcTemplate jdbcTemplate,
+            IdBlockAllocator idBlockAllocator,
+            @Value("${game.history.queue-size:10000}") int queueSize,
+            @Value("${game.history.batch-size:500}") int batchSize,
+            @Value("${game.history.flush-interval-ms:200}") long flushIntervalMillis,
+            @Value("${game.history.max-retry-backoff-ms:5000}") long maxBackoffMillis,
+            @Value("${game.history.submit-timeout-ms:100}") long submitTimeoutMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.idBlockAllocator = idBlockAllocator;
+        this.queue = new ArrayBlockingQueue<>(queueSize);
+        this.batchSize = batchSize;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+        this.submitTimeoutMillis = submitTimeoutMillis;
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        writer = new Thread(this::writeLoop, "game-history-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * 서버 종료 시 큐에 남은 기록을 모두 저장합니다.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (writer == null) {
+            return;
+        }
+        running = false;
+        writer.join(TimeUnit.SECONDS.toMillis(30));
+
+        // 기록 스레드가 끝난 직후에 큐에 들어온 기록도 저장
+        List<Entry> rest = new ArrayList<>();
+        queue.drainTo(rest);
+        if (!rest.isEmpty()) {
+            write(rest, true);
+        }
+    }
+
+    /**
+     * 끝난 게임의 기록을 저장 대기열에 넣습니다.
+     * 큐가 가득 차 있으면 submit-timeout만큼 기다리고, 그래도 자리가 없으면 이 스레드에서 직접 저장합니다.
+     */
+    public void submit(Entry entry) {
+        if (!running) {
+            write(List.of(entry), true);  // 기록 스레드가 멈춘 뒤라면 바로 저장
+            return;
+        }
+        if (queue.offer(entry)) {
+            return;
+        }
+        waited.incrementAndGet();
+        try {
+            if (queue.offer(entry, submitTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        write(List.of(entry), true);
+    }
+
+    /**
+     * 기록 스레드의 본체: 배치 크기만큼 모이거나 일정 시간이 지나면 한 번에 저장합니다.
+     */
+    private void writeLoop() {
+        List<Entry> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Entry first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                write(batch, false);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+
+            long count = waited.getAndSet(0);
+            if (count > 0) {
+                log.warn("Game history queue was full; {} requests waited for the writer or wrote directly", count);
+            }
+        }
+    }
+
+    /**
+     * 묶음을 저장하고, 일시적인 오류로 실패하면 간격을 두 배씩 늘려 가며 다시 시도합니다.
+     * ID는 처음에 한 번만 예약하므로, 다시 시도할 때는 이전 시도에서 이미 저장된 행(ID로 확인)을 빼고 저장합니다.
+     * 다시 시도해도 소용없는 오류라면 바로 포기하고, limited라면 LIMITED_ATTEMPTS번까지만 시도합니다.
+     * 포기한 기록은 복구할 수 있도록 로그로 남깁니다.
+     *
+     * @param limited 요청 스레드에서 직접 저장하는 경우 true (서버 종료 중에도 횟수를 제한함)
+     */
+    void write(List<Entry> batch, boolean limited) {
+        long backoff = INITIAL_BACKOFF_MILLIS;
+        long[] ids = null;
+        boolean maybeWritten = false;  // 같은 ID로 한 이전 시도에서 일부 행이 저장되었을 수 있음
+        for (int attempt = 1; ; attempt++) {
+            try {
+                if (ids == null) {
+                    ids = idBlockAllocator.reserve(ID_BLOCK, batch.size());
+                }
+                insertMissing(batch, ids, maybeWritten);
+                return;
+            } catch (RuntimeException e) {
+                if (!isTransient(e)) {
+                    log.error("Gave up writing {} game histories after a permanent failure: {}", batch.size(), batch, e);
+                    return;
+                }
+                log.warn("Failed to write {} game histories (attempt {})", batch.size(), attempt, e);
+                maybeWritten = ids != null;
+            }
+            if ((limited || !running) && attempt >= LIMITED_ATTEMPTS) {
+                log.error("Gave up writing {} game histories after {} attempts: {}", batch.size(), attempt, batch);
+                return;
+            }
+            try {
+                Thread.sleep(backoff);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.error("Interrupted while writing {} game histories: {}", batch.size(), batch);
+                return;
+            }
+            backoff = Math.min(backoff * 2, maxBackoffMillis);
+        }
+    }
+
+    /**
+     * 아직 저장되지 않은 행만 저장합니다.
+     * rewriteBatchedStatements는 큰 묶음을 여러 개의 INSERT로 나눠 보내고 auto-commit이므로, 실패한 묶음도 앞쪽 INSERT는 저장되었을 수 있습니다.
+     * 제약 조건 위반(예: 게임 도중 삭제된 단어)이 나면 묶음을 반씩 나눠 다시 저장해 문제가 되는 행만 남깁니다.
+     *
+     * @param maybeWritten true면 저장하기 전에 이미 있는 ID를 조회해서 뺌
+     */
+    private void insertMissing(List<Entry> batch, long[] ids, boolean maybeWritten) {
+        if (maybeWritten) {
+            Set<Long> existing = writtenIds(batch, ids);
+            if (!existing.isEmpty()) {
+                List<Entry> missing = new ArrayList<>(batch.size());
+                long[] missingIds = new long[batch.size()];
+                for (int i = 0; i < batch.size(); i++) {
+                    if (!existing.contains(ids[i])) {
+                        missingIds[missing.size()] = ids[i];
+                        missing.add(batch.get(i));
+                    }
+                }
+                batch = missing;
+                ids = Arrays.copyOf(missingIds, missing.size());
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            insert(batch, ids);
+        } catch (DataIntegrityViolationException e) {
+            if (batch.size() > 1) {
+                int half = batch.size() / 2;
+                insertMissing(batch.subList(0, half), Arrays.copyOfRange(ids, 0, half), true);
+                insertMissing(batch.subList(half, batch.size()), Arrays.copyOfRange(ids, half, ids.length), true);
+            } else if (e instanceof DuplicateKeyException) {
+                // 행 하나짜리 INSERT는 일부만 저장되지 않으므로, 예약한 ID를 다른 행이 쓰고 있는 경우 (id_block 값이 테이블보다 뒤처짐)
+                log.error("Reserved game history id {} is already in use; check the id_block row", ids[0], e);
+                insertWithNewId(batch.get(0));
+            } else {
+                log.error("Dropped a game history that cannot be stored: {}", batch.get(0), e);
+            }
+        }
+    }
+
+    /**
+     * 기록 하나를 새로 예약한 ID로 한 번 더 저장해 보고, 그래도 저장할 수 없으면 로그로 남깁니다.
+     */
+    private void insertWithNewId(Entry entry) {
+        try {
+            insert(List.of(entry), idBlockAllocator.reserve(ID_BLOCK, 1));
+        } catch (DataIntegrityViolationException e) {
+            log.error("Dropped a game history that cannot be stored: {}", entry, e);
+        }
+    }
+
+    /**
+     * 다시 시도해서 성공할 수 있는 오류인지 확인합니다. (잠금 대기 시간 초과, 연결 끊김 등)
+     */
+    private static boolean isTransient(RuntimeException e) {
+        return e instanceof TransientDataAccessException
+                || e instanceof RecoverableDataAccessException
+                || e instanceof DataAccessResourceFailureException;
+    }
+
+    /**
+     * 이전 시도에서 이미 저장된 행의 ID를 찾습니다.
+     * id_block 값이 뒤처져 다른 행이 같은 ID를 쓰고 있을 수도 있으므로, 학생과 단어까지 같은 행만 저장된 것으로 봅니다.
+     *
+     * @return 묶음의 ID 중 같은 기록으로 이미 저장된 ID들
+     */
+    protected Set<Long> writtenIds(List<Entry> batch, long[] ids) {
+        String sql = "SELECT id, student_id, word_id FROM game_history WHERE id IN ("
+                + String.join(",", Collections.nCopies(ids.length, "?")) + ")";
+        Object[] args = new Object[ids.length];
+        Map<Long, Entry> byId = new HashMap<>();
+        for (int i = 0; i < ids.length; i++) {
+            args[i] = ids[i];
+            byId.put(ids[i], batch.get(i));
+        }
+        Set<Long> written = new HashSet<>();
+        jdbcTemplate.query(sql, rs -> {
+            Entry entry = byId.get(rs.getLong(1));
+            if (entry != null && entry.studentId() == rs.getLong(2) && entry.wordId() == rs.getLong(3)) {
+                written.add(rs.getLong(1));
+            }
+        }, args);
+        return written;
+    }
+
+    /**
+     * 묶음을 예약한 ID와 함께 한 번의 batch insert로 저장합니다.
+     */
+    protected void insert(List<Entry> batch, long[] ids) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Entry entry = batch.get(i);
+                ps.setLong(1, ids[i]);
+                ps.setLong(2, entry.studentId());
+                ps.setLong(3, entry.wordId());
+                ps.setBoolean(4, entry.success());
+                ps.setInt(5, entry.attempts());
+                ps.setInt(6, entry.wrongLetterMask());
+                ps.setTimestamp(7, Timestamp.valueOf(entry.playedAt()));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return batch.size();
+            }
+        });
+    }
+
+    /**
+     * 저장을 기다리는 게임 기록 하나 (GameHistory 엔티티와 같은 값)
+     *
+     * @param attempts        틀린 시도 횟수
+     * @param wrongLetterMask 틀린 알파벳 비트 (A = 0번 비트)
+     * @param playedAt        게임이 끝난 시각 (저장된 시각이 아님)
+     */
+    public record Entry(long studentId, long wordId, boolean success, int attempts,
+                        int wrongLetterMask, LocalDateTime playedAt) {
+    }
+}
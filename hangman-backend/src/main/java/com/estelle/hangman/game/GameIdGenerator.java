@@ -0,0 +1,21 @@
+package com.estelle.hangman.game;
+
+/**
+ * 새 게임에 부여할 고유 ID를 만드는 인터페이스입니다.
+ * 구현체를 바꿔 끼울 수 있도록 GameService는 이 인터페이스에만 의존합니다.
+ */
+public interface GameIdGenerator {
+
+    /**
+     * @return 다른 게임과 겹치지 않는 새 게임 ID
+     */
+    long nextId();
+
+    /**
+     * 게임 ID가 발급된 시각을 구합니다. (게임 시작 시각으로 사용)
+     *
+     * @param gameId 이 생성기가 발급한 게임 ID
+     * @return 발급 시각 (epoch 밀리초)
+     */
+    long timestampOf(long gameId);
+}
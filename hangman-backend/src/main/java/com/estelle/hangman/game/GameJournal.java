@@ -0,0 +1,396 @@
+package com.estelle.hangman.game;
+
+import com.estelle.hangman.domain.GameSession;
+import com.estelle.hangman.domain.Word;
+import com.estelle.hangman.repository.WordRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 진행 중인 게임의 이벤트(시작, 추측, 종료)를 파일에 남기는 Write-Ahead 저널입니다.
+ * 서버가 재배포되거나 비정상 종료되어도 다시 시작할 때 저널을 읽어 게임 세션을 복원합니다.
+ *
+ * - 요청 스레드는 이벤트를 큐에 넣기만 하고 바로 돌아갑니다. (파일 I/O 없음)
+ *   큐가 가득 차면 enqueue-timeout만큼만 기다리고, 그래도 자리가 없으면 이벤트를 버리고 그 수를 셉니다.
+ *   요청 스레드는 게임 잠금을 잡고 있으므로 무한히 기다리지 않습니다.
+ * - 전용 기록 스레드가 큐에 쌓인 이벤트를 한꺼번에 꺼내 순서대로 기록한 뒤
+ *   한 번만 디스크에 반영합니다. (그룹 커밋)
+ * - 종료된 게임의 레코드는 주기적으로(또는 파일이 가득 차면) 압축하여 제거합니다.
+ * - 기록에 실패한 묶음은 버리지 않고 아직 기록하지 못한 이벤트부터 다시 시도합니다.
+ *   MAX_WRITE_ATTEMPTS번 연속으로 실패해야 버리며, 버린 이벤트의 게임 ID와 수를 로그로 남깁니다.
+ */
+@Slf4j
+@Component
+public class GameJournal {
+
+    private final GameSessionStore gameSessionStore;
+    private final WordRepository wordRepository;
+
+    private final boolean enabled;
+    private final Path path;
+    private final long capacity;
+    private final long compactIntervalNanos;
+    private final int maxBatchSize;
+    private final long enqueueTimeoutMillis;
+
+    /**
+     * 같은 묶음을 이 횟수만큼 연속으로 기록하지 못하면 버립니다.
+     */
+    private static final int MAX_WRITE_ATTEMPTS = 5;
+
+    /**
+     * 기록에 실패한 뒤 다시 시도하기까지의 대기 시간
+     */
+    private static final long RETRY_BACKOFF_MILLIS = 200;
+
+    /**
+     * 요청 스레드 -> 기록 스레드로 이벤트를 넘기는 큐
+     * 가득 차면 요청 스레드가 enqueue-timeout만큼 기다리게 되어 자연스럽게 속도가 조절됩니다.
+     */
+    private final BlockingQueue<Event> queue;
+
+    /**
+     * 큐에 넣지 못했거나 기록하지 못해 버린 이벤트 수 (그 게임은 재시작 후 잘못 복원될 수 있음)
+     */
+    private final AtomicLong lost = new AtomicLong();
+
+    /**
+     * 큐가 가득 차서 버린 이벤트 수 (기록 스레드가 로그로 남기고 0으로 되돌림)
+     */
+    private final AtomicLong rejected = new AtomicLong();
+
+    private JournalFile file;
+    private Thread writer;
+    private volatile boolean running;
+
+    public GameJournal(
+            GameSessionStore gameSessionStore,
+            WordRepository wordRepository,
+            @Value("${game.journal.enabled:true}") boolean enabled,
+            @Value("${game.journal.path:./data/game-journal.wal}") String path,
+            @Value("${game.journal.capacity-mb:64}") int capacityMb,
+            @Value("${game.journal.queue-size:65536}") int queueSize,
+            @Value("${game.journal.max-batch-size:4096}") int maxBatchSize,
+            @Value("${game.journal.compact-interval-minutes:10}") long compactIntervalMinutes,
+            @Value("${game.journal.enqueue-timeout-ms:100}") long enqueueTimeoutMillis) {
+        this.gameSessionStore = gameSessionStore;
+        this.wordRepository = wordRepository;
+        this.enabled = enabled;
+        this.path = Paths.get(path);
+        this.capacity = capacityMb * 1024L * 1024L;
+        this.queue = new ArrayBlockingQueue<>(queueSize);
+        this.maxBatchSize = maxBatchSize;
+        this.compactIntervalNanos = TimeUnit.MINUTES.toNanos(compactIntervalMinutes);
+        this.enqueueTimeoutMillis = enqueueTimeoutMillis;
+    }
+
+    /**
+     * 저널을 열고, 기록되어 있던 진행 중인 게임들을 세션 저장소로 복원한 뒤 기록 스레드를 시작합니다.
+     */
+    @PostConstruct
+    public void start() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        file = JournalFile.open(path, capacity);
+        recover();
+
+        running = true;
+        writer = new Thread(this::writeLoop, "game-journal-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * 서버 종료 시 큐에 남은 이벤트를 모두 기록하고 파일을 닫습니다.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException, IOException {
+        if (!enabled || writer == null) {
+            return;
+        }
+        running = false;
+        writer.join(TimeUnit.SECONDS.toMillis(10));
+        file.close();
+    }
+
+    /**
+     * 게임 시작(단어와 진행하는 사용자)을 기록합니다.
+     */
+    public void recordStart(long gameId, long wordId, long studentId) {
+        enqueue(new Event(JournalFile.START, '\0', gameId, wordId));
+        enqueue(new Event(JournalFile.PLAYER, '\0', gameId, studentId));
+    }
+
+    /**
+     * 글자 추측을 기록합니다.
+     */
+    public void recordGuess(long gameId, char letter) {
+        enqueue(new Event(JournalFile.GUESS, Character.toUpperCase(letter), gameId, 0L));
+    }
+
+    /**
+     * 게임 종료(성공, 실패, 포기)를 기록합니다. 종료된 게임은 다음 압축 때 저널에서 사라집니다.
+     */
+    public void recordEnd(long gameId) {
+        enqueue(new Event(JournalFile.END, '\0', gameId, 0L));
+    }
+
+    /**
+     * @return 지금까지 큐에 넣지 못했거나 기록하지 못해 버린 이벤트 수
+     */
+    public long lostEvents() {
+        return lost.get();
+    }
+
+    /**
+     * 이벤트를 큐에 넣습니다. 큐가 가득 차 있으면 enqueue-timeout만큼만 기다리고, 그래도 자리가 없으면 버립니다.
+     */
+    private void enqueue(Event event) {
+        if (!enabled) {
+            return;
+        }
+        if (queue.offer(event)) {
+            return;
+        }
+        try {
+            if (queue.offer(event, enqueueTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        lost.incrementAndGet();
+        rejected.incrementAndGet();
+    }
+
+    /**
+     * 저널에 남아 있는 진행 중인 게임들을 세션 저장소로 되살립니다.
+     */
+    private void recover() {
+        long startTime = System.nanoTime();
+        Map<Long, JournalFile.RecoveredGame> games = file.readLiveGames();
+        if (games.isEmpty()) {
+            return;
+        }
+
+        // 필요한 단어를 한 번의 쿼리로 모두 조회
+        List<Long> wordIds = games.values().stream()
+                .map(JournalFile.RecoveredGame::getWordId)
+                .distinct()
+                .collect(Collectors.toList());
+        Map<Long, Word> words = wordRepository.findAllById(wordIds).stream()
+                .collect(Collectors.toMap(Word::getId, Function.identity()));
+
+        int restored = 0;
+        for (JournalFile.RecoveredGame game : games.values()) {
+            Word word = words.get(game.getWordId());
+            if (word == null) {
+                continue;  // 그사이 삭제된 단어의 게임은 복원하지 않음
+            }
+            GameSession session = replay(word, game.getStudentId(), game.getGuessedMask());
+            if (!session.isComplete()) {
+                gameSessionStore.put(game.getGameId(), session);
+                restored++;
+            }
+        }
+        log.info("Recovered {} in-flight games from journal in {}ms",
+                restored, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+    }
+
+    /**
+     * 새 세션에 저장된 추측들을 다시 적용합니다.
+     *
+     * @param word        게임 단어
+     * @param studentId   게임을 진행하던 사용자 ID
+     * @param guessedMask 추측한 알파벳 비트 값 (0번 비트 = 'A')
+     */
+    public static GameSession replay(Word word, long studentId, int guessedMask) {
+        GameSession session = new GameSession(word, studentId);
+        for (int bits = guessedMask; bits != 0 && !session.isComplete(); bits &= bits - 1) {
+            session.guessLetter((char) ('A' + Integer.numberOfTrailingZeros(bits)));
+        }
+        return session;
+    }
+
+    /**
+     * 기록 스레드의 본체: 큐에서 이벤트를 모아 기록하고 한 번에 디스크에 반영합니다.
+     * 기록에 실패하면 아직 기록하지 못한 이벤트를 남겨 두었다가 다시 시도합니다.
+     */
+    private void writeLoop() {
+        List<Event> batch = new ArrayList<>(maxBatchSize);
+        long lastCompaction = System.nanoTime();
+        int failures = 0;
+
+        while (running || !queue.isEmpty() || !batch.isEmpty()) {
+            try {
+                if (batch.isEmpty()) {
+                    Event first = queue.poll(100, TimeUnit.MILLISECONDS);
+                    if (first != null) {
+                        batch.add(first);
+                        queue.drainTo(batch, maxBatchSize - 1);
+                    }
+                }
+                if (!batch.isEmpty()) {
+                    writeBatch(batch);
+                    failures = 0;
+                }
+
+                if (System.nanoTime() - lastCompaction > compactIntervalNanos) {
+                    lastCompaction = System.nanoTime();  // 압축이 실패해도 다음 주기까지 기다림
+                    compact();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                // 기록 실패로 스레드가 죽지 않도록 하고, 남은 묶음은 잠시 뒤 다시 시도
+                failures++;
+                if (batch.isEmpty()) {
+                    log.error("Failed to compact game journal", e);
+                } else if (failures < MAX_WRITE_ATTEMPTS) {
+                    log.warn("Failed to write {} game journal events (attempt {})", batch.size(), failures, e);
+                } else {
+                    lost.addAndGet(batch.size());
+                    log.error("Dropped {} game journal events after {} attempts; games {} may not recover correctly",
+                            batch.size(), failures, gameIds(batch), e);
+                    batch.clear();
+                    failures = 0;
+                }
+                if (!batch.isEmpty() && !sleep(RETRY_BACKOFF_MILLIS)) {
+                    return;
+                }
+            }
+
+            long count = rejected.getAndSet(0);
+            if (count > 0) {
+                log.warn("Game journal queue was full; dropped {} events ({} lost in total)", count, lost.get());
+            }
+        }
+    }
+
+    /**
+     * 묶음의 이벤트를 순서대로 기록하고 한 번에 디스크에 반영합니다.
+     * 기록한 이벤트는 묶음에서 빼므로, 도중에 실패하면 묶음에는 아직 기록하지 못한 이벤트만 남습니다.
+     */
+    private void writeBatch(List<Event> batch) {
+        int written = 0;
+        try {
+            for (Event event : batch) {
+                write(event);
+                written++;
+            }
+        } finally {
+            batch.subList(0, written).clear();
+        }
+        file.force();  // 배치 전체를 한 번에 반영
+    }
+
+    /**
+     * @return 재시도 대기 중 인터럽트되었다면 false
+     */
+    private static boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * 로그에 남길, 묶음에 들어 있는 게임 ID들
+     */
+    private static List<Long> gameIds(List<Event> batch) {
+        return batch.stream().map(event -> event.gameId).distinct().collect(Collectors.toList());
+    }
+
+    private void write(Event event) {
+        if (!file.append(event.type, event.letter, event.gameId, event.value)) {
+            // 파일이 가득 찼다면 압축해서 공간을 확보한 뒤 다시 기록
+            compact();
+            if (!file.append(event.type, event.letter, event.gameId, event.value)) {
+                throw new IllegalStateException("Game journal is full even after compaction");
+            }
+        }
+    }
+
+    /**
+     * 아직 진행 중인 게임만 새 파일에 다시 기록하고 기존 파일과 교체합니다.
+     * 저장소에서 이미 만료된 게임도 함께 제거됩니다.
+     * 기록 스레드에서만 호출되므로 기존 파일에 대한 쓰기와 겹치지 않습니다.
+     */
+    private void compact() {
+        long startTime = System.nanoTime();
+        Map<Long, JournalFile.RecoveredGame> games = file.readLiveGames();
+        Path compactPath = path.resolveSibling(path.getFileName() + ".compact");
+
+        try {
+            Files.deleteIfExists(compactPath);
+            // 진행 중인 게임이 많다면 파일 크기를 늘려 압축 직후 다시 가득 차지 않도록 함
+            long required = JournalFile.HEADER_SIZE + (long) games.size() * 28 * JournalFile.RECORD_SIZE;
+            long newCapacity = required * 2 > capacity ? Math.max(file.capacity(), required * 2) : capacity;
+
+            JournalFile compacted = JournalFile.open(compactPath, newCapacity);
+            int kept = 0;
+            for (JournalFile.RecoveredGame game : games.values()) {
+                if (!gameSessionStore.contains(game.getGameId())) {
+                    continue;
+                }
+                compacted.append(JournalFile.START, '\0', game.getGameId(), game.getWordId());
+                compacted.append(JournalFile.PLAYER, '\0', game.getGameId(), game.getStudentId());
+                for (int bits = game.getGuessedMask(); bits != 0; bits &= bits - 1) {
+                    char letter = (char) ('A' + Integer.numberOfTrailingZeros(bits));
+                    compacted.append(JournalFile.GUESS, letter, game.getGameId(), 0L);
+                }
+                kept++;
+            }
+            compacted.close();
+            file.close();
+
+            Files.move(compactPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            file = JournalFile.open(path, newCapacity);
+            log.debug("Compacted game journal: {} live games kept in {}ms",
+                    kept, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to compact game journal", e);
+        }
+    }
+
+    /**
+     * 큐에 담기는 저널 이벤트 하나
+     */
+    private static final class Event {
+        private final byte type;
+        private final char letter;
+        private final long gameId;
+        private final long value;
+
+        private Event(byte type, char letter, long gameId, long value) {
+            this.type = type;
+            this.letter = letter;
+            this.gameId = gameId;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.estelle.hangman.game;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 같은 게임에 대한 요청(추측, 포기, 방치된 게임 정리)을 한 번에 하나씩 순서대로 처리하기 위한 잠금입니다.
+ *
+ * 게임마다 잠금 객체를 만들지 않고, 정해진 개수의 잠금을 게임 ID로 나누어 씁니다. (striped lock)
+ * 같은 게임은 항상 같은 잠금을 쓰므로 직렬화되고, 서로 다른 게임은 거의 항상 다른 잠금을 쓰므로 동시에 진행됩니다.
+ */
+@Component
+public class GameLocks {
+
+    /**
+     * 잠금 개수 (2의 거듭제곱)
+     */
+    static final int STRIPES = 1024;
+
+    private static final int STRIPE_BITS = Integer.numberOfTrailingZeros(STRIPES);
+
+    private final Lock[] locks = new Lock[STRIPES];
+
+    public GameLocks() {
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * 게임 ID에 해당하는 잠금을 반환합니다.
+     * 사용하는 쪽에서 lock() 후 finally 블록에서 unlock()을 호출해야 합니다.
+     *
+     * @param gameId 게임 ID
+     */
+    public Lock lockFor(long gameId) {
+        return locks[stripe(gameId)];
+    }
+
+    /**
+     * 게임 ID의 모든 비트가 섞이도록 곱셈 해시의 상위 비트를 사용합니다.
+     * (게임 ID의 하위 비트는 같은 밀리초 안의 순번이라 대부분 0이므로 그대로 쓰면 한 잠금에 몰림)
+     */
+    static int stripe(long gameId) {
+        return (int) ((gameId * 0x9E3779B97F4A7C15L) >>> (64 - STRIPE_BITS));
+    }
+}
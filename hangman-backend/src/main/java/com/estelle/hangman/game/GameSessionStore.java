@@ -0,0 +1,269 @@
+package com.estelle.hangman.game;
+
+import com.estelle.hangman.domain.GameSession;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 진행 중인 게임 세션을 메모리에 보관하는 저장소입니다.
+ * 여러 요청 스레드가 동시에 접근해도 안전하도록 ConcurrentHashMap(버킷 단위 잠금, 읽기는 잠금 없음)을 사용합니다.
+ *
+ * - 조회/저장은 O(1)이며, 조회할 때마다 마지막 접근 시간이 갱신됩니다.
+ * - 잠시(park-after) 쉬고 있는 세션은 64바이트 압축 형태로 힙 밖 저장 공간(ParkedSessionSlab)으로 옮기고,
+ *   다시 조회될 때 원래 객체로 되살립니다.
+ * - 일정 시간(idle TTL) 동안 접근이 없는 세션은 백그라운드 스케줄러가 제거합니다.
+ * - 최대 보관 개수를 넘으면 새 게임 시작을 거절하여 힙이 끝없이 커지는 것을 막습니다.
+ */
+@Slf4j
+@Component
+public class GameSessionStore {
+
+    /**
+     * 게임 ID를 Key로, 세션과 마지막 접근 시간을 Value로 저장하는 Map
+     */
+    private final Map<Long, Entry> sessions;
+
+    /**
+     * 마지막 접근 이후 이 시간(나노초)이 지나면 만료된 세션으로 간주합니다.
+     */
+    private final long idleTtlNanos;
+
+    /**
+     * 마지막 접근 이후 이 시간(나노초)이 지나면 세션을 힙 밖으로 옮깁니다.
+     */
+    private final long parkAfterNanos;
+
+    /**
+     * 쉬고 있는 세션을 압축해서 보관하는 힙 밖 저장 공간
+     */
+    private final ParkedSessionSlab parkedSessions;
+
+    /**
+     * 동시에 보관할 수 있는 최대 세션 수
+     */
+    private final int maxSize;
+
+    public GameSessionStore(
+            @Value("${game.session.idle-ttl-minutes:60}") long idleTtlMinutes,
+            @Value("${game.session.park-after-minutes:5}") long parkAfterMinutes,
+            @Value("${game.session.max-size:100000}") int maxSize) {
+        this.idleTtlNanos = TimeUnit.MINUTES.toNanos(idleTtlMinutes);
+        this.parkAfterNanos = TimeUnit.MINUTES.toNanos(parkAfterMinutes);
+        this.maxSize = maxSize;
+        this.parkedSessions = new ParkedSessionSlab(maxSize);
+        // 리사이즈가 자주 일어나지 않도록 적당한 초기 용량을 잡아둠
+        this.sessions = new ConcurrentHashMap<>(Math.min(maxSize, 1024));
+    }
+
+    /**
+     * 새 게임 세션을 저장합니다.
+     *
+     * @param gameId  게임 ID
+     * @param session 저장할 게임 세션
+     */
+    public void put(Long gameId, GameSession session) {
+        // 최대 개수를 넘으면 새 게임을 받지 않음 (만료 정리는 백그라운드에서만 수행)
+        if (sessions.size() >= maxSize) {
+            throw new IllegalStateException("Too many active games");
+        }
+        sessions.put(gameId, new Entry(session));
+    }
+
+    /**
+     * 게임 세션을 조회하고 마지막 접근 시간을 갱신합니다.
+     * 힙 밖으로 옮겨진 세션이라면 원래 객체로 되살려서 반환합니다.
+     *
+     * @param gameId 게임 ID
+     * @return 게임 세션, 없거나 이미 만료되었다면 (또는 게임 ID가 null이라면) null
+     */
+    public GameSession get(Long gameId) {
+        if (gameId == null) {
+            return null;  // ConcurrentHashMap은 null Key를 조회하면 NPE를 던지므로 "없음"으로 처리
+        }
+        Entry entry = sessions.get(gameId);
+        if (entry == null) {
+            return null;
+        }
+        // 접근 시간을 먼저 기록해야 park()가 지금 사용 중인 세션을 옮기지 않음
+        entry.touch();
+        GameSession session = entry.session;
+        if (session != null) {
+            return session;
+        }
+        return entry.inflate(parkedSessions);
+    }
+
+    /**
+     * 게임 세션이 저장소에 있는지 확인합니다. (마지막 접근 시간은 갱신하지 않음)
+     *
+     * @param gameId 게임 ID
+     * @return 저장되어 있다면 true
+     */
+    public boolean contains(Long gameId) {
+        return sessions.containsKey(gameId);
+    }
+
+    /**
+     * 게임 세션을 저장소에서 제거합니다.
+     *
+     * @param gameId 게임 ID
+     */
+    public void remove(Long gameId) {
+        Entry entry = sessions.remove(gameId);
+        if (entry != null) {
+            entry.discard(parkedSessions);
+        }
+    }
+
+    /**
+     * 마지막 접근 이후 주어진 시간이 지난 세션들을 저장소에서 꺼냅니다.
+     * 힙 밖으로 옮겨져 있던 세션은 다시 객체로 만들어 반환합니다.
+     *
+     * @param idleMinutes 이 시간(분) 넘게 접근이 없었던 세션만 꺼냄
+     * @return 게임 ID를 Key로 하는 꺼낸 세션들
+     */
+    public Map<Long, GameSession> removeIdle(long idleMinutes) {
+        long idleNanos = TimeUnit.MINUTES.toNanos(idleMinutes);
+        long now = System.nanoTime();
+        Map<Long, GameSession> removed = new HashMap<>();
+
+        for (Map.Entry<Long, Entry> e : sessions.entrySet()) {
+            Entry entry = e.getValue();
+            if (now - entry.lastAccessNanos > idleNanos && sessions.remove(e.getKey(), entry)) {
+                GameSession session = entry.inflate(parkedSessions);
+                if (session != null) {
+                    removed.put(e.getKey(), session);
+                }
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * @return 현재 보관 중인 세션 수
+     */
+    public int size() {
+        return sessions.size();
+    }
+
+    /**
+     * @return 힙 밖에 압축되어 보관 중인 세션 수
+     */
+    public int parkedSize() {
+        return parkedSessions.usedSlots();
+    }
+
+    /**
+     * 오래 사용되지 않은 세션을 정리합니다.
+     * - idle TTL이 지난 세션은 제거
+     * - park-after가 지난 세션은 압축해서 힙 밖으로 이동
+     * 스케줄러 스레드에서 실행되므로 startGame/guessLetter 요청의 응답 시간에 영향을 주지 않습니다.
+     */
+    @Scheduled(fixedDelayString = "${game.session.sweep-interval-ms:60000}")
+    public void evictExpired() {
+        long now = System.nanoTime();
+        int evicted = 0;
+        int parked = 0;
+
+        Iterator<Map.Entry<Long, Entry>> it = sessions.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<Long, Entry> e = it.next();
+            Entry entry = e.getValue();
+            long lastAccess = entry.lastAccessNanos;
+            long idle = now - lastAccess;
+            if (idle > idleTtlNanos) {
+                // 정리 도중 같은 ID로 다시 저장된 세션은 건드리지 않도록 값까지 비교해서 제거
+                if (sessions.remove(e.getKey(), entry)) {
+                    entry.discard(parkedSessions);
+                    evicted++;
+                }
+            } else if (idle > parkAfterNanos && entry.park(parkedSessions, lastAccess)) {
+                parked++;
+            }
+        }
+
+        if (evicted > 0 || parked > 0) {
+            log.debug("Evicted {} idle game sessions, parked {} off-heap, {} remaining ({} parked)",
+                    evicted, parked, sessions.size(), parkedSessions.usedSlots());
+        }
+    }
+
+    /**
+     * 세션과 마지막 접근 시간을 함께 보관하는 내부 클래스
+     * 세션은 힙에 있거나(session != null), 힙 밖 저장 공간의 한 칸에 있거나(slot >= 0) 둘 중 하나입니다.
+     * 두 상태 사이의 이동은 이 객체를 잠그고 수행합니다.
+     */
+    private static final class Entry {
+        private volatile GameSession session;
+        private volatile long lastAccessNanos;
+        private int slot = -1;
+
+        private Entry(GameSession session) {
+            this.session = session;
+            this.lastAccessNanos = System.nanoTime();
+        }
+
+        private void touch() {
+            lastAccessNanos = System.nanoTime();
+        }
+
+        /**
+         * 세션을 압축해서 힙 밖으로 옮깁니다.
+         * 쉬고 있다고 판단한 뒤에 접근한 요청이 있다면 그 요청이 세션을 쓰고 있을 수 있으므로 옮기지 않습니다.
+         *
+         * @param seen 쉬고 있다고 판단할 때 읽은 마지막 접근 시간
+         * @return 옮겼다면 true
+         */
+        private synchronized boolean park(ParkedSessionSlab slab, long seen) {
+            GameSession current = session;
+            if (current == null || lastAccessNanos != seen) {
+                return false;
+            }
+            int newSlot = slab.park(current);
+            if (newSlot < 0) {
+                return false;
+            }
+            slot = newSlot;
+            session = null;
+
+            // 압축하는 사이에 누군가 세션을 가져갔다면 그 요청의 변경이 사라지지 않도록 되돌림
+            if (lastAccessNanos != seen) {
+                session = current;
+                slab.release(newSlot);
+                slot = -1;
+                return false;
+            }
+            return true;
+        }
+
+        /**
+         * 힙 밖에 있는 세션을 다시 객체로 만듭니다.
+         * @return 세션, 이미 제거된 세션이라면 null
+         */
+        private synchronized GameSession inflate(ParkedSessionSlab slab) {
+            if (session == null && slot >= 0) {
+                session = slab.inflate(slot);
+                slot = -1;
+            }
+            return session;
+        }
+
+        /**
+         * 저장소에서 제거될 때 힙 밖 칸을 돌려줍니다.
+         */
+        private synchronized void discard(ParkedSessionSlab slab) {
+            if (slot >= 0) {
+                slab.release(slot);
+                slot = -1;
+            }
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.estelle.hangman.game;
+
+import com.estelle.hangman.domain.GameSession;
+import com.estelle.hangman.game.WordPool.PooledWord;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 진행 중인 게임에서 다음에 시도하면 좋을 알파벳을 알려주는 힌트 엔진입니다.
+ *
+ * - 게임 단어가 속한 반(반 + 선생님)의 단어 중, 지금까지 공개된 글자와 맞고 틀린 글자가 없는 단어를 후보로 봅니다.
+ * - 아직 시도하지 않은 알파벳 중 가장 많은 후보에 들어 있는(공개될 가능성이 가장 높은) 알파벳을 고릅니다.
+ *   같다면 알파벳 순서가 앞선 것을 고릅니다.
+ * - 알파벳과 그 확률만 알려주고 후보 단어나 정답은 알려주지 않습니다.
+ *   후보가 정답 하나만 남았다면 추천이 곧 정답의 글자이므로 힌트를 주지 않습니다.
+ * - 후보는 반마다 만들어 둔 HintIndex의 비트셋 연산으로 구하며,
+ *   단어가 추가/삭제되면 해당 반의 색인만 다음 힌트 요청 때 다시 만듭니다.
+ */
+@Slf4j
+@Component
+public class HintEngine {
+
+    private final WordPool wordPool;
+
+    /**
+     * (반 ID, 선생님 ID)를 Key로 하는 힌트 색인
+     */
+    private final Map<CourseTeacher, HintIndex> indexes = new ConcurrentHashMap<>();
+
+    public HintEngine(WordPool wordPool) {
+        this.wordPool = wordPool;
+    }
+
+    /**
+     * 게임의 현재 상태에 맞는 다음 알파벳을 고릅니다. (호출하는 쪽에서 게임 잠금을 잡고 호출)
+     *
+     * @return 추천 알파벳과 공개될 확률, 후보가 하나 이하이거나 추천할 알파벳이 없다면 null
+     */
+    public Suggestion suggest(GameSession session) {
+        PooledWord answer = wordPool.get(session.getWordId());
+        if (answer == null) {
+            return null;  // 게임 도중 단어가 삭제됨
+        }
+
+        HintIndex index = indexFor(session.getCourseId(), answer.getTeacherId());
+        int[] counts = index.letterCounts(pattern(session), session.getGuessedMask());
+
+        int total = counts[HintIndex.LETTERS];
+        if (total <= 1) {
+            return null;  // 남은 후보가 정답뿐이면 힌트가 정답을 알려주게 됨
+        }
+        int best = -1;
+        for (int letter = 0; letter < HintIndex.LETTERS; letter++) {
+            if (counts[letter] > 0 && (best < 0 || counts[letter] > counts[best])) {
+                best = letter;
+            }
+        }
+        if (best < 0) {
+            return null;
+        }
+        return new Suggestion((char) ('A' + best), (double) counts[best] / total);
+    }
+
+    private HintIndex indexFor(Long courseId, Long teacherId) {
+        PooledWord[] words = wordPool.wordsByCourseAndTeacher(courseId, teacherId);
+        CourseTeacher key = new CourseTeacher(courseId, teacherId);
+        HintIndex index = indexes.get(key);
+        if (index == null || index.source != words) {
+            long startTime = System.nanoTime();
+            index = new HintIndex(words);
+            indexes.put(key, index);
+            log.debug("Built hint index for course {} teacher {} ({} words) in {}ms", courseId, teacherId,
+                    words.length, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+        }
+        return index;
+    }
+
+    /**
+     * 세션의 공개된 글자로 위치별 알파벳 번호 배열을 만듭니다. (가려진 위치는 -1)
+     */
+    private static byte[] pattern(GameSession session) {
+        byte[] pattern = new byte[session.getWordText().length()];
+        Arrays.fill(pattern, (byte) -1);
+        int revealed = session.getGuessedMask() & ~session.getWrongMask();
+        for (int letter = 0; letter < HintIndex.LETTERS; letter++) {
+            if ((revealed & (1 << letter)) != 0) {
+                for (int pos : session.getLetterPositions((char) ('A' + letter))) {
+                    pattern[pos] = (byte) letter;
+                }
+            }
+        }
+        return pattern;
+    }
+
+    /**
+     * 추천 알파벳과 그 알파벳이 단어에 들어 있을 확률 (후보 단어 중 그 알파벳이 들어 있는 비율)
+     */
+    public record Suggestion(char letter, double probability) {
+    }
+}
@@ -0,0 +1,233 @@
+package com.estelle.hangman.game;
+
+import com.estelle.hangman.game.WordPool.PooledWord;
+
+import java.util.Arrays;
+
+/**
+ * 한 반(반 + 선생님)의 단어를 길이별로 나누고, 위치별 알파벳을 비트셋으로 보관하는 힌트용 색인입니다.
+ *
+ * - 길이가 같은 단어들에 0번부터 번호를 매기고, "pos번째 글자가 알파벳 c인 단어들"과
+ *   "알파벳 c가 들어 있는 단어들"을 long[] 비트셋으로 만듭니다.
+ * - "A _ _ L E"에서 틀린 글자를 뺀 후보는 문자열을 훑지 않고 비트셋의 AND / AND NOT으로 구합니다.
+ * - 만든 뒤에는 바꾸지 않고, 단어가 바뀌면 통째로 다시 만듭니다. (WordPool 배열이 교체된 것으로 판단)
+ */
+final class HintIndex {
+
+    static final int LETTERS = 26;
+
+    /**
+     * 색인을 만들 때 사용한 WordPool 배열 (같은 객체인지로 변경 여부를 확인)
+     */
+    final PooledWord[] source;
+
+    /**
+     * 단어 길이를 index로 하는 길이별 색인 (해당 길이의 단어가 없으면 null)
+     */
+    private final LengthGroup[] byLength;
+
+    HintIndex(PooledWord[] source) {
+        this.source = source;
+
+        int maxLength = 0;
+        for (PooledWord word : source) {
+            maxLength = Math.max(maxLength, word.getText().length());
+        }
+        int[] counts = new int[maxLength + 1];
+        for (PooledWord word : source) {
+            counts[word.getText().length()]++;
+        }
+
+        byLength = new LengthGroup[maxLength + 1];
+        for (int length = 1; length <= maxLength; length++) {
+            if (counts[length] > 0) {
+                byLength[length] = new LengthGroup(length, counts[length]);
+            }
+        }
+        for (PooledWord word : source) {
+            String text = word.getText();
+            if (!text.isEmpty()) {
+                byLength[text.length()].add(text);
+            }
+        }
+    }
+
+    /**
+     * 진행 상태와 맞는 후보 단어들 중, 아직 시도하지 않은 알파벳마다 그 알파벳이 들어 있는 후보 수를 셉니다.
+     *
+     * @param pattern     위치별로 공개된 알파벳 번호(0~25), 가려진 위치는 -1
+     * @param guessedMask 지금까지 시도한 알파벳 비트 (A = 0번 비트)
+     * @return 알파벳별 후보 수 (0~25번)와 전체 후보 수 (26번), 후보가 없으면 모두 0
+     */
+    int[] letterCounts(byte[] pattern, int guessedMask) {
+        int[] counts = new int[LETTERS + 1];
+        LengthGroup group = pattern.length < byLength.length ? byLength[pattern.length] : null;
+        if (group == null) {
+            return counts;
+        }
+
+        long[] candidates = group.match(pattern, guessedMask);
+        if (candidates == null) {
+            return counts;
+        }
+        counts[LETTERS] = Bits.count(candidates);
+        if (counts[LETTERS] == 0) {
+            return counts;
+        }
+        for (int letter = 0; letter < LETTERS; letter++) {
+            long[] has = group.has[letter];
+            if ((guessedMask & (1 << letter)) == 0 && has != null) {
+                counts[letter] = Bits.countAnd(candidates, has);
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * 길이가 같은 단어들의 위치별 알파벳 비트셋
+     */
+    private static final class LengthGroup {
+        private final int length;
+        private final int size;
+        private final int words;  // 비트셋 하나의 long 개수
+
+        /**
+         * at[pos * 26 + c]: pos번째 글자가 알파벳 c인 단어들 (그런 단어가 없으면 null)
+         */
+        private final long[][] at;
+
+        /**
+         * has[c]: 알파벳 c가 한 번 이상 들어 있는 단어들 (그런 단어가 없으면 null)
+         */
+        private final long[][] has;
+
+        /**
+         * 지금까지 추가된 단어 수 (추가할 단어의 번호)
+         */
+        private int added;
+
+        private LengthGroup(int length, int size) {
+            this.length = length;
+            this.size = size;
+            this.words = (size + 63) >>> 6;
+            this.at = new long[length * LETTERS][];
+            this.has = new long[LETTERS][];
+        }
+
+        private void add(String text) {
+            int index = added++;
+            for (int pos = 0; pos < length; pos++) {
+                int letter = Character.toUpperCase(text.charAt(pos)) - 'A';
+                if (letter < 0 || letter >= LETTERS) {
+                    continue;  // 알파벳이 아닌 글자는 어떤 알파벳과도 맞지 않음
+                }
+                set(at, pos * LETTERS + letter, index);
+                set(has, letter, index);
+            }
+        }
+
+        private void set(long[][] bitsets, int slot, int index) {
+            long[] bits = bitsets[slot];
+            if (bits == null) {
+                bits = bitsets[slot] = new long[words];
+            }
+            bits[index >>> 6] |= 1L << index;
+        }
+
+        /**
+         * @return 진행 상태와 맞는 단어들의 비트셋 (새로 만든 배열), 후보가 없으면 null
+         */
+        private long[] match(byte[] pattern, int guessedMask) {
+            long[] candidates = null;
+            int revealedMask = 0;
+
+            // 1. 공개된 위치마다 그 위치에 같은 알파벳이 있는 단어만 남김
+            for (int pos = 0; pos < length; pos++) {
+                if (pattern[pos] < 0) {
+                    continue;
+                }
+                long[] bits = at[pos * LETTERS + pattern[pos]];
+                if (bits == null) {
+                    return null;
+                }
+                if (candidates == null) {
+                    candidates = bits.clone();
+                } else {
+                    Bits.and(candidates, bits);
+                }
+                revealedMask |= 1 << pattern[pos];
+            }
+            if (candidates == null) {
+                candidates = Bits.all(size, words);
+            }
+
+            // 2. 틀린 알파벳(시도했지만 공개되지 않은 알파벳)이 들어 있는 단어를 뺌
+            int wrongMask = guessedMask & ~revealedMask;
+            for (int letter = 0; letter < LETTERS; letter++) {
+                if ((wrongMask & (1 << letter)) != 0 && has[letter] != null) {
+                    Bits.andNot(candidates, has[letter]);
+                }
+            }
+
+            // 3. 맞힌 알파벳은 모든 위치가 공개되므로, 가려진 위치에 그 알파벳이 있는 단어를 뺌
+            for (int pos = 0; pos < length; pos++) {
+                if (pattern[pos] >= 0) {
+                    continue;
+                }
+                for (int letter = 0; letter < LETTERS; letter++) {
+                    long[] bits = at[pos * LETTERS + letter];
+                    if ((revealedMask & (1 << letter)) != 0 && bits != null) {
+                        Bits.andNot(candidates, bits);
+                    }
+                }
+            }
+            return candidates;
+        }
+    }
+
+    /**
+     * long[] 비트셋 연산
+     */
+    private static final class Bits {
+
+        private Bits() {
+        }
+
+        private static long[] all(int size, int words) {
+            long[] bits = new long[words];
+            Arrays.fill(bits, -1L);
+            if ((size & 63) != 0) {
+                bits[words - 1] = (1L << size) - 1;  // 마지막 long의 남는 비트는 끔
+            }
+            return bits;
+        }
+
+        private static void and(long[] target, long[] bits) {
+            for (int i = 0; i < target.length; i++) {
+                target[i] &= bits[i];
+            }
+        }
+
+        private static void andNot(long[] target, long[] bits) {
+            for (int i = 0; i < target.length; i++) {
+                target[i] &= ~bits[i];
+            }
+        }
+
+        private static int count(long[] bits) {
+            int count = 0;
+            for (long word : bits) {
+                count += Long.bitCount(word);
+            }
+            return count;
+        }
+
+        private static int countAnd(long[] a, long[] b) {
+            int count = 0;
+            for (int i = 0; i < a.length; i++) {
+                count += Long.bitCount(a[i] & b[i]);
+            }
+            return count;
+        }
+    }
+}
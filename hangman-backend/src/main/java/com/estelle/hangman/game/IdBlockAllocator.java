@@ -0,0 +1,83 @@
+package com.estelle.hangman.game;
+
+import com.estelle.hangman.domain.BlockIdGenerator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.UncategorizedSQLException;
+import org.springframework.jdbc.support.SQLExceptionSubclassTranslator;
+import org.springframework.jdbc.support.SQLExceptionTranslator;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * JDBC batch insert로 직접 저장하는 곳(단어 일괄 등록, 게임 기록 기록기)에 ID를 나눠주는 할당기입니다.
+ *
+ * 엔티티의 @BlockId와 같은 id_block 테이블에서 블록을 예약하므로, JPA로 저장한 행과 ID가 겹치지 않습니다.
+ * AUTO_INCREMENT에 맡기면 JPA가 예약해 둔 블록 안의 번호를 먼저 가져갈 수 있으므로 이 테이블들에는 항상 ID를 직접 넣습니다.
+ */
+@Component
+public class IdBlockAllocator {
+
+    /**
+     * SQLException을 JdbcTemplate과 같은 DataAccessException 종류로 바꿈 (연결 끊김 등 일시적인 오류를 구분할 수 있도록)
+     */
+    private static final SQLExceptionTranslator EXCEPTION_TRANSLATOR = new SQLExceptionSubclassTranslator();
+
+    private final DataSource dataSource;
+
+    /**
+     * 한 번에 예약하는 최소 ID 수
+     */
+    private final int blockSize;
+
+    /**
+     * name을 Key로 하는 [다음에 나눠줄 ID, 블록의 끝] (이 객체를 잠그고 읽고 씀)
+     */
+    private final Map<String, long[]> ranges = new HashMap<>();
+
+    public IdBlockAllocator(DataSource dataSource, @Value("${id-block.size:1000}") int blockSize) {
+        this.dataSource = dataSource;
+        this.blockSize = blockSize;
+    }
+
+    /**
+     * ID를 count개 나눠줍니다. 남은 블록으로 모자라면 부족한 만큼(최소 blockSize개)을 한 번에 더 예약합니다.
+     *
+     * @param name id_block 테이블의 name 값 (테이블 이름)
+     * @return 오름차순 ID 배열
+     */
+    public synchronized long[] reserve(String name, int count) {
+        long[] range = ranges.computeIfAbsent(name, k -> new long[2]);
+        long[] ids = new long[count];
+        int filled = 0;
+        while (filled < count) {
+            if (range[0] == range[1]) {
+                int size = Math.max(blockSize, count - filled);
+                range[0] = reserveBlock(name, size);
+                range[1] = range[0] + size;
+            }
+            ids[filled++] = range[0]++;
+        }
+        return ids;
+    }
+
+    /**
+     * 호출한 쪽의 트랜잭션과 상관없이 별도 연결(auto-commit)로 블록을 예약합니다.
+     *
+     * @return 예약한 첫 ID
+     */
+    protected long reserveBlock(String name, int size) {
+        try (Connection connection = dataSource.getConnection()) {
+            return BlockIdGenerator.reserve(connection, name, size);
+        } catch (SQLException e) {
+            String task = "reserve ids for " + name;
+            DataAccessException translated = EXCEPTION_TRANSLATOR.translate(task, null, e);
+            throw translated != null ? translated : new UncategorizedSQLException(task, null, e);
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package com.estelle.hangman.game;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 게임 저널(Write-Ahead Log) 파일 하나를 메모리 매핑으로 다루는 클래스입니다.
+ * 파일 앞부분부터 고정 크기(24바이트) 레코드를 순서대로 덧붙이기만 합니다.
+ *
+ * 파일 구조
+ * - 헤더 16바이트: MAGIC(4) | VERSION(4) | 예약(8)
+ * - 레코드 24바이트: 종류(1) | 알파벳(1) | 예약(2) | 체크섬(4) | 게임 ID(8) | 값(8, 단어 ID 또는 사용자 ID)
+ *
+ * 비정상 종료로 레코드가 중간까지만 기록되었거나 아직 쓰지 않은 영역(0으로 채워짐)을 만나면
+ * 체크섬이 맞지 않으므로 그 지점을 저널의 끝으로 간주합니다.
+ * 이 클래스는 스레드에 안전하지 않으며, 쓰기는 GameJournal의 기록 스레드 하나에서만 수행합니다.
+ */
+public class JournalFile implements AutoCloseable {
+
+    public static final byte START = 1;   // 게임 시작 (값 = 단어 ID)
+    public static final byte GUESS = 2;   // 글자 추측 (알파벳 = 추측한 글자)
+    public static final byte END = 3;     // 게임 종료 (성공/실패/포기)
+    public static final byte PLAYER = 4;  // 게임을 진행하는 사용자 (값 = 사용자 ID, START 바로 뒤에 기록)
+
+    public static final int HEADER_SIZE = 16;
+    public static final int RECORD_SIZE = 24;
+    private static final int MAGIC = 0x484A4E4C;  // "HJNL"
+    private static final int VERSION = 1;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+
+    private JournalFile(Path path, FileChannel channel, MappedByteBuffer buffer) {
+        this.path = path;
+        this.channel = channel;
+        this.buffer = buffer;
+    }
+
+    /**
+     * 저널 파일을 열고, 이미 기록된 레코드들의 바로 뒤에서부터 이어 쓸 수 있도록 준비합니다.
+     * 파일이 없거나 헤더가 올바르지 않으면 새로 초기화합니다.
+     *
+     * @param path     저널 파일 경로
+     * @param capacity 매핑할 파일 크기(바이트)
+     */
+    public static JournalFile open(Path path, long capacity) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        long size = Math.max(capacity, channel.size());
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            // 새 파일이거나 알 수 없는 형식이면 헤더부터 다시 기록
+            buffer.putInt(0, MAGIC);
+            buffer.putInt(4, VERSION);
+            buffer.putLong(8, 0L);
+            buffer.putInt(HEADER_SIZE, 0);
+            buffer.position(HEADER_SIZE);
+        } else {
+            buffer.position(findEnd(buffer));
+        }
+        return new JournalFile(path, channel, buffer);
+    }
+
+    /**
+     * 레코드 하나를 덧붙입니다. 디스크 반영은 force()를 호출할 때 일괄로 이루어집니다.
+     *
+     * @return 공간이 부족해 기록하지 못했다면 false
+     */
+    public boolean append(byte type, char letter, long gameId, long value) {
+        if (buffer.remaining() < RECORD_SIZE) {
+            return false;
+        }
+        buffer.put(type);
+        buffer.put((byte) letter);
+        buffer.putShort((short) 0);
+        buffer.putInt(checksum(type, (byte) letter, gameId, value));
+        buffer.putLong(gameId);
+        buffer.putLong(value);
+        return true;
+    }
+
+    /**
+     * 지금까지 덧붙인 레코드들을 디스크에 반영합니다. (그룹 커밋 한 번에 한 번 호출)
+     */
+    public void force() {
+        buffer.force();
+    }
+
+    /**
+     * @return 사용 중인 바이트 수
+     */
+    public long usedBytes() {
+        return buffer.position();
+    }
+
+    /**
+     * @return 매핑된 전체 바이트 수
+     */
+    public long capacity() {
+        return buffer.capacity();
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    @Override
+    public void close() throws IOException {
+        buffer.force();
+        channel.close();
+    }
+
+    /**
+     * 저널을 처음부터 다시 읽어 아직 끝나지 않은 게임들의 상태를 복원합니다.
+     * 같은 레코드가 여러 번 들어 있어도 결과가 같도록(멱등) 처리합니다.
+     *
+     * @return 게임 ID를 Key로, 단어 ID와 추측한 알파벳 비트를 Value로 하는 Map (시작 순서 유지)
+     */
+    public Map<Long, RecoveredGame> readLiveGames() {
+        return readLiveGames(buffer, (int) usedBytes());
+    }
+
+    /**
+     * 저널 파일을 읽기 전용으로 열어 아직 끝나지 않은 게임들의 상태를 복원합니다.
+     */
+    public static Map<Long, RecoveredGame> readLiveGames(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+                return new LinkedHashMap<>();
+            }
+            return readLiveGames(buffer, findEnd(buffer));
+        }
+    }
+
+    private static Map<Long, RecoveredGame> readLiveGames(ByteBuffer buffer, int end) {
+        Map<Long, RecoveredGame> games = new LinkedHashMap<>();
+        for (int pos = HEADER_SIZE; pos < end; pos += RECORD_SIZE) {
+            byte type = buffer.get(pos);
+            long gameId = buffer.getLong(pos + 8);
+            if (type == START) {
+                if (!games.containsKey(gameId)) {
+                    games.put(gameId, new RecoveredGame(gameId, buffer.getLong(pos + 16)));
+                }
+            } else if (type == PLAYER) {
+                RecoveredGame game = games.get(gameId);
+                if (game != null) {
+                    game.studentId = buffer.getLong(pos + 16);
+                }
+            } else if (type == GUESS) {
+                RecoveredGame game = games.get(gameId);
+                int index = Character.toUpperCase((char) buffer.get(pos + 1)) - 'A';
+                if (game != null && index >= 0 && index < 26) {
+                    game.guessedMask |= 1 << index;
+                }
+            } else if (type == END) {
+                games.remove(gameId);
+            }
+        }
+        return games;
+    }
+
+    /**
+     * 체크섬이 맞는 마지막 레코드 바로 뒤의 위치를 찾습니다.
+     */
+    private static int findEnd(ByteBuffer buffer) {
+        int pos = HEADER_SIZE;
+        while (pos + RECORD_SIZE <= buffer.capacity()) {
+            byte type = buffer.get(pos);
+            if (type < START || type > PLAYER
+                    || buffer.getInt(pos + 4) != checksum(type, buffer.get(pos + 1),
+                            buffer.getLong(pos + 8), buffer.getLong(pos + 16))) {
+                break;
+            }
+            pos += RECORD_SIZE;
+        }
+        return pos;
+    }
+
+    /**
+     * 레코드 내용으로 32비트 체크섬을 계산합니다. (객체를 만들지 않는 간단한 해시)
+     */
+    private static int checksum(byte type, byte letter, long gameId, long value) {
+        long h = (type & 0xFFL) << 8 | (letter & 0xFFL);
+        h = h * 0x9E3779B97F4A7C15L + gameId;
+        h = (h ^ (h >>> 29)) * 0xBF58476D1CE4E5B9L + value;
+        h = (h ^ (h >>> 32)) * 0x94D049BB133111EBL;
+        int result = (int) (h ^ (h >>> 31));
+        // 0으로 채워진 빈 영역과 구분되도록 0은 사용하지 않음
+        return result == 0 ? 1 : result;
+    }
+
+    /**
+     * 저널에서 복원한 진행 중인 게임 하나의 상태
+     */
+    public static class RecoveredGame {
+        private final long gameId;
+        private final long wordId;
+        private long studentId;
+        private int guessedMask;
+
+        RecoveredGame(long gameId, long wordId) {
+            this.gameId = gameId;
+            this.wordId = wordId;
+        }
+
+        public long getGameId() { return gameId; }
+
+        public long getWordId() { return wordId; }
+
+        public long getStudentId() { return studentId; }
+
+        /**
+         * @return 추측한 알파벳 비트 값 (0번 비트 = 'A')
+         */
+        public int getGuessedMask() { return guessedMask; }
+    }
+}
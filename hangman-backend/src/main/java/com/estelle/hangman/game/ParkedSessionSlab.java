@@ -0,0 +1,76 @@
+package com.estelle.hangman.game;
+
+import com.estelle.hangman.domain.GameSession;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 한동안 사용되지 않은 게임 세션을 힙 밖(direct ByteBuffer)에 압축 형태로 보관하는 저장 공간입니다.
+ * 고정 크기(GameSession.COMPACT_SIZE) 칸을 미리 잡아두고, 빈 칸 번호를 스택으로 관리합니다.
+ *
+ * 칸을 빌리고 돌려주는 작업만 synchronized로 보호하며,
+ * 한 칸의 읽기/쓰기는 GameSessionStore가 해당 세션 단위로 직렬화합니다.
+ */
+class ParkedSessionSlab {
+
+    private final ByteBuffer slab;
+
+    /**
+     * 비어 있는 칸 번호들 (freeCount개까지 유효)
+     */
+    private final int[] freeSlots;
+    private int freeCount;
+
+    ParkedSessionSlab(int slotCount) {
+        this.slab = ByteBuffer.allocateDirect(slotCount * GameSession.COMPACT_SIZE);
+        this.freeSlots = new int[slotCount];
+        // 낮은 번호의 칸부터 사용하도록 역순으로 쌓음
+        for (int i = 0; i < slotCount; i++) {
+            freeSlots[i] = slotCount - 1 - i;
+        }
+        this.freeCount = slotCount;
+    }
+
+    /**
+     * 세션을 빈 칸에 압축해서 기록합니다.
+     *
+     * @return 기록한 칸 번호, 빈 칸이 없거나 압축할 수 없는 세션이라면 -1
+     */
+    int park(GameSession session) {
+        if (!session.isCompactable()) {
+            return -1;
+        }
+        int slot;
+        synchronized (this) {
+            if (freeCount == 0) {
+                return -1;
+            }
+            slot = freeSlots[--freeCount];
+        }
+        session.writeTo(slab, slot * GameSession.COMPACT_SIZE);
+        return slot;
+    }
+
+    /**
+     * 칸에 기록된 세션을 다시 만들고 칸을 비웁니다.
+     */
+    GameSession inflate(int slot) {
+        GameSession session = GameSession.readFrom(slab, slot * GameSession.COMPACT_SIZE);
+        release(slot);
+        return session;
+    }
+
+    /**
+     * 칸을 비웁니다. (세션이 만료되어 버려질 때 사용)
+     */
+    synchronized void release(int slot) {
+        freeSlots[freeCount++] = slot;
+    }
+
+    /**
+     * @return 현재 사용 중인 칸 수
+     */
+    synchronized int usedSlots() {
+        return freeSlots.length - freeCount;
+    }
+}
@@ -0,0 +1,183 @@
+package com.estelle.hangman.game;
+
+import java.util.Arrays;
+
+/**
+ * 단어 ID 목록(posting list)을 압축된 byte 배열로 다루는 유틸리티입니다.
+ *
+ * 배열은 [개수][첫 ID][이전 ID와의 차이]... 를 모두 가변 길이 정수(varint, 7비트씩)로 저장합니다.
+ * ID를 오름차순으로 저장하므로 차이값이 작아 대부분 1~2바이트에 들어갑니다. (int[] 대비 약 1/2~1/4)
+ * 한 번 만든 배열은 바꾸지 않고, 추가/삭제 시에는 새 배열을 만듭니다. (copy-on-write)
+ */
+final class Postings {
+
+    private Postings() {
+    }
+
+    /**
+     * 오름차순으로 정렬된 ID들을 압축합니다.
+     */
+    static byte[] encode(int[] ids, int length) {
+        byte[] out = new byte[5 * (length + 1)];
+        int pos = writeVarint(out, 0, length);
+        int previous = 0;
+        for (int i = 0; i < length; i++) {
+            pos = writeVarint(out, pos, ids[i] - previous);
+            previous = ids[i];
+        }
+        return Arrays.copyOf(out, pos);
+    }
+
+    /**
+     * @return 압축된 목록의 ID 개수 (앞부분만 읽음)
+     */
+    static int count(byte[] postings) {
+        int value = 0;
+        for (int shift = 0, pos = 0; ; shift += 7) {
+            byte b = postings[pos++];
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+    }
+
+    /**
+     * 압축을 풀어 오름차순 ID 배열로 돌려줍니다.
+     */
+    static int[] decode(byte[] postings) {
+        Reader reader = new Reader(postings);
+        int[] ids = new int[reader.remaining];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = reader.next();
+        }
+        return ids;
+    }
+
+    /**
+     * ID를 추가한 새 목록을 만듭니다. (이미 있다면 그대로 반환)
+     */
+    static byte[] with(byte[] postings, int id) {
+        if (postings == null) {
+            return encode(new int[]{id}, 1);
+        }
+        int[] ids = decode(postings);
+        int index = Arrays.binarySearch(ids, id);
+        if (index >= 0) {
+            return postings;
+        }
+        int insert = -index - 1;
+        int[] copy = new int[ids.length + 1];
+        System.arraycopy(ids, 0, copy, 0, insert);
+        copy[insert] = id;
+        System.arraycopy(ids, insert, copy, insert + 1, ids.length - insert);
+        return encode(copy, copy.length);
+    }
+
+    /**
+     * 오름차순 ID들을 한꺼번에 추가한 새 목록을 만듭니다. (이미 있는 ID는 한 번만 남김)
+     * 여러 ID를 하나씩 with로 추가하면 매번 목록 전체를 다시 압축하므로, 대량 추가에는 이 메서드를 사용합니다.
+     */
+    static byte[] merge(byte[] postings, int[] ids, int length) {
+        if (postings == null) {
+            return encode(ids, length);
+        }
+        int[] existing = decode(postings);
+        int[] merged = new int[existing.length + length];
+        int i = 0;
+        int j = 0;
+        int n = 0;
+        while (i < existing.length || j < length) {
+            int next;
+            if (j >= length || (i < existing.length && existing[i] <= ids[j])) {
+                next = existing[i++];
+            } else {
+                next = ids[j++];
+            }
+            if (n == 0 || merged[n - 1] != next) {
+                merged[n++] = next;
+            }
+        }
+        return encode(merged, n);
+    }
+
+    /**
+     * ID를 뺀 새 목록을 만듭니다. 빈 목록이 되면 null을 반환해 Map에서 항목을 지웁니다.
+     */
+    static byte[] without(byte[] postings, int id) {
+        int[] ids = decode(postings);
+        int index = Arrays.binarySearch(ids, id);
+        if (index < 0) {
+            return postings;
+        }
+        if (ids.length == 1) {
+            return null;
+        }
+        System.arraycopy(ids, index + 1, ids, index, ids.length - index - 1);
+        return encode(ids, ids.length - 1);
+    }
+
+    /**
+     * candidates 앞쪽 length개 중 압축된 목록에도 있는 ID만 앞으로 모읍니다. (두 목록을 함께 훑는 병합 방식)
+     *
+     * @return 남은 ID 개수
+     */
+    static int retainAll(int[] candidates, int length, byte[] postings) {
+        Reader reader = new Reader(postings);
+        int kept = 0;
+        int current = reader.remaining > 0 ? reader.next() : Integer.MAX_VALUE;
+        for (int i = 0; i < length; i++) {
+            int id = candidates[i];
+            while (current < id && reader.remaining > 0) {
+                current = reader.next();
+            }
+            if (current == id) {
+                candidates[kept++] = id;
+            } else if (current < id) {
+                break;  // 목록을 끝까지 읽었음
+            }
+        }
+        return kept;
+    }
+
+    private static int writeVarint(byte[] out, int pos, int value) {
+        while ((value & ~0x7F) != 0) {
+            out[pos++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out[pos++] = (byte) value;
+        return pos;
+    }
+
+    /**
+     * 압축된 목록을 앞에서부터 하나씩 읽는 Reader
+     */
+    private static final class Reader {
+        private final byte[] postings;
+        private int pos;
+        private int remaining;
+        private int previous;
+
+        private Reader(byte[] postings) {
+            this.postings = postings;
+            this.remaining = readVarint();
+        }
+
+        private int next() {
+            remaining--;
+            previous += readVarint();
+            return previous;
+        }
+
+        private int readVarint() {
+            int value = 0;
+            for (int shift = 0; ; shift += 7) {
+                byte b = postings[pos++];
+                value |= (b & 0x7F) << shift;
+                if (b >= 0) {
+                    return value;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,305 @@
+package com.estelle.hangman.game;
+
+import com.estelle.hangman.domain.ReviewItem;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 바뀐 복습 일정을 review_item 테이블에 모아서 저장하는 기록기입니다. (write-behind)
+ *
+ * - 요청 스레드는 바뀐 행을 대기 Map에 넣기만 하므로, 게임을 끝내는 추측이 DB 저장을 기다리지 않습니다.
+ * - 같은 (학생, 단어)의 행이 저장 전에 다시 바뀌면 마지막 값만 남깁니다. 그래서 대기 중인 행 수는
+ *   DB 저장이 밀려도 review_item 테이블의 행 수를 넘지 않습니다.
+ * - 전용 기록 스레드가 flush-interval마다 대기 중인 행을 한 번의 batch upsert(INSERT ... ON DUPLICATE KEY UPDATE)로 저장합니다.
+ *   한 번에 한 묶음씩 순서대로 저장하므로, 같은 행의 이전 값이 나중 값을 덮어쓰지 않습니다.
+ * - 일시적인 오류는 같은 묶음을 간격을 늘려 가며 다시 시도합니다. (upsert라서 일부가 저장된 뒤에 다시 보내도 됨)
+ * - 저장되기 전인 행은 pending()으로 볼 수 있어, 메모리에서 버려진 학생의 대기열을 DB에서 다시 읽을 때 덮어씁니다.
+ * - 삭제된 단어의 행 삭제도 기록 스레드가 합니다. 지금 저장 중인 묶음이 끝난 다음 묶음에서 upsert 뒤에 지우므로,
+ *   저장 중이던 행이 삭제 뒤에 다시 만들어지지 않습니다. 삭제된 단어의 행은 그 뒤로 받지 않습니다.
+ */
+@Slf4j
+@Component
+public class ReviewItemWriter {
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO review_item (student_id, word_id, due_date, interval_days, ease, repetitions) "
+                    + "VALUES (?, ?, ?, ?, ?, ?) "
+                    + "ON DUPLICATE KEY UPDATE due_date = VALUES(due_date), interval_days = VALUES(interval_days), "
+                    + "ease = VALUES(ease), repetitions = VALUES(repetitions)";
+
+    private static final String DELETE_WORD_SQL = "DELETE FROM review_item WHERE word_id = ?";
+
+    /**
+     * 첫 재시도까지의 대기 시간 (실패할 때마다 두 배로 늘림)
+     */
+    private static final long INITIAL_BACKOFF_MILLIS = 100;
+
+    /**
+     * 서버 종료 중에는 이 횟수만큼만 시도하고, 그래도 실패하면 행 내용을 로그로 남깁니다.
+     */
+    private static final int SHUTDOWN_ATTEMPTS = 3;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long flushIntervalMillis;
+    private final long maxBackoffMillis;
+
+    /**
+     * 저장을 기다리는 행 (이 객체를 잠그고 읽고 씀)
+     */
+    private Map<ReviewItem.Key, ReviewItem> pending = new LinkedHashMap<>();
+
+    /**
+     * 기록 스레드가 지금 저장 중인 행 (저장이 끝나면 비움, 이 객체를 잠그고 읽고 씀)
+     */
+    private Map<ReviewItem.Key, ReviewItem> writing = Map.of();
+
+    /**
+     * 다음 묶음에서 행을 지울 단어 ID (이 객체를 잠그고 읽고 씀)
+     */
+    private Set<Long> pendingDeletes = new HashSet<>();
+
+    /**
+     * 삭제된 단어 ID (단어 ID는 다시 쓰이지 않으므로, 이 단어의 행은 이후로 받지 않음, 이 객체를 잠그고 읽고 씀)
+     */
+    private final Set<Long> deletedWords = new HashSet<>();
+
+    private Thread writer;
+    private volatile boolean running;
+    private volatile boolean stopped;
+
+    public ReviewItemWriter(
+            JdbcTemplate jdbcTemplate,
+            @Value("${game.review.flush-interval-ms:200}") long flushIntervalMillis,
+            @Value("${game.review.max-retry-backoff-ms:5000}") long maxBackoffMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        writer = new Thread(this::writeLoop, "review-item-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * 서버 종료 시 대기 중인 행을 모두 저장합니다.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (writer == null) {
+            return;
+        }
+        running = false;
+        writer.join(TimeUnit.SECONDS.toMillis(30));
+        stopped = true;
+        flush();
+    }
+
+    /**
+     * 바뀐 복습 일정을 저장 대기 Map에 넣습니다. 같은 행이 이미 기다리고 있다면 새 값으로 바꿉니다.
+     */
+    public void submit(ReviewItem item) {
+        synchronized (this) {
+            if (deletedWords.contains(item.getWordId())) {
+                return;  // 게임 도중 삭제된 단어
+            }
+            if (!stopped) {
+                pending.put(new ReviewItem.Key(item.getStudentId(), item.getWordId()), item);
+                return;
+            }
+        }
+        write(List.of(item));  // 기록 스레드가 멈춘 뒤라면 바로 저장
+    }
+
+    /**
+     * 삭제된 단어의 행을 모든 학생에게서 지웁니다.
+     * 아직 저장되지 않은 행은 버리고, 이미 저장되었거나 저장 중인 행은 다음 묶음에서 upsert 뒤에 지웁니다.
+     */
+    public void deleteWord(Long wordId) {
+        synchronized (this) {
+            deletedWords.add(wordId);
+            pending.keySet().removeIf(key -> key.getWordId().equals(wordId));
+            if (!stopped) {
+                pendingDeletes.add(wordId);
+                return;
+            }
+        }
+        delete(Set.of(wordId));  // 기록 스레드가 멈춘 뒤라면 바로 삭제
+    }
+
+    /**
+     * @return 학생의 행 중 아직 저장이 끝나지 않은 행 (단어 ID를 Key로, 저장 중인 행보다 기다리는 행이 나중 값)
+     */
+    public synchronized Map<Long, ReviewItem> pending(Long studentId) {
+        Map<Long, ReviewItem> items = new HashMap<>();
+        for (Map<ReviewItem.Key, ReviewItem> source : List.of(writing, pending)) {
+            for (ReviewItem item : source.values()) {
+                if (item.getStudentId().equals(studentId) && !deletedWords.contains(item.getWordId())) {
+                    items.put(item.getWordId(), item);
+                }
+            }
+        }
+        return items;
+    }
+
+    /**
+     * 기록 스레드의 본체: flush-interval마다 대기 중인 행을 한 번에 저장합니다.
+     */
+    private void writeLoop() {
+        while (running) {
+            try {
+                Thread.sleep(flushIntervalMillis);
+            } catch (InterruptedException e) {
+                return;  // 남은 행은 stop()에서 저장
+            }
+            flush();
+        }
+    }
+
+    /**
+     * 대기 중인 행을 꺼내 저장한 뒤, 삭제된 단어의 행을 지웁니다. 저장하는 동안 들어온 행과 삭제는 다음 묶음이 됩니다.
+     */
+    private void flush() {
+        Collection<ReviewItem> batch;
+        Set<Long> deletes;
+        synchronized (this) {
+            if (pending.isEmpty() && pendingDeletes.isEmpty()) {
+                return;
+            }
+            writing = pending;
+            pending = new LinkedHashMap<>();
+            batch = writing.values();
+            deletes = pendingDeletes;
+            pendingDeletes = new HashSet<>();
+        }
+        try {
+            if (!batch.isEmpty()) {
+                write(new ArrayList<>(batch));
+            }
+            if (!deletes.isEmpty()) {
+                delete(deletes);
+            }
+        } finally {
+            synchronized (this) {
+                writing = Map.of();
+            }
+        }
+    }
+
+    /**
+     * 묶음을 한 번의 batch upsert로 저장합니다. (실패 시 retry 규칙을 따름)
+     */
+    private void write(List<ReviewItem> batch) {
+        retry("write " + batch.size() + " review items", () -> describe(batch), () -> upsert(batch));
+    }
+
+    /**
+     * 삭제된 단어들의 행을 지웁니다. (실패 시 retry 규칙을 따름)
+     */
+    private void delete(Set<Long> wordIds) {
+        retry("delete review items of words " + wordIds, wordIds::toString, () -> deleteByWordIds(wordIds));
+    }
+
+    /**
+     * 작업을 실행하고, 일시적인 오류로 실패하면 간격을 두 배씩 늘려 가며 다시 시도합니다.
+     * 다시 시도해도 소용없는 오류라면 바로 포기하고, 포기한 내용은 복구할 수 있도록 로그로 남깁니다.
+     */
+    private void retry(String what, Supplier<Object> contents, Runnable action) {
+        long backoff = INITIAL_BACKOFF_MILLIS;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                action.run();
+                return;
+            } catch (TransientDataAccessException | RecoverableDataAccessException
+                     | DataAccessResourceFailureException e) {
+                log.warn("Failed to {} (attempt {})", what, attempt, e);
+            } catch (RuntimeException e) {
+                log.error("Gave up trying to {} after a permanent failure: {}", what, contents.get(), e);
+                return;
+            }
+            if (!running && attempt >= SHUTDOWN_ATTEMPTS) {
+                log.error("Gave up trying to {} after {} attempts: {}", what, attempt, contents.get());
+                return;
+            }
+            try {
+                Thread.sleep(backoff);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.error("Interrupted while trying to {}: {}", what, contents.get());
+                return;
+            }
+            backoff = Math.min(backoff * 2, maxBackoffMillis);
+        }
+    }
+
+    /**
+     * 묶음을 한 번의 batch upsert로 저장합니다.
+     */
+    protected void upsert(List<ReviewItem> batch) {
+        jdbcTemplate.batchUpdate(UPSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ReviewItem item = batch.get(i);
+                ps.setLong(1, item.getStudentId());
+                ps.setLong(2, item.getWordId());
+                ps.setDate(3, Date.valueOf(item.getDueDate()));
+                ps.setShort(4, item.getIntervalDays());
+                ps.setShort(5, item.getEase());
+                ps.setByte(6, item.getRepetitions());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return batch.size();
+            }
+        });
+    }
+
+    /**
+     * 단어들의 행을 모든 학생에게서 지웁니다.
+     */
+    protected void deleteByWordIds(Set<Long> wordIds) {
+        List<Object[]> args = new ArrayList<>(wordIds.size());
+        for (Long wordId : wordIds) {
+            args.add(new Object[]{wordId});
+        }
+        jdbcTemplate.batchUpdate(DELETE_WORD_SQL, args);
+    }
+
+    /**
+     * 로그에 남길 행 내용 (학생 ID, 단어 ID, 다음 복습 날짜, 간격, 난이도 계수, 연속 횟수)
+     */
+    private static List<String> describe(List<ReviewItem> batch) {
+        List<String> rows = new ArrayList<>(batch.size());
+        for (ReviewItem item : batch) {
+            rows.add(item.getStudentId() + "," + item.getWordId() + "," + item.getDueDate() + ","
+                    + item.getIntervalDays() + "," + item.getEase() + "," + item.getRepetitions());
+        }
+        return rows;
+    }
+}
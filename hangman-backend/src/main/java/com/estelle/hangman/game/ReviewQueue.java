@@ -0,0 +1,135 @@
+package com.estelle.hangman.game;
+
+import com.estelle.hangman.domain.ReviewItem;
+import com.estelle.hangman.game.WordPool.PooledWord;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
+
+/**
+ * 학생 한 명의 복습 대기열입니다. 다음 복습 날짜가 빠른 단어부터 꺼낼 수 있습니다.
+ *
+ * - 복습 날짜 순으로 정렬된 TreeSet과 단어 ID로 찾는 HashMap을 함께 사용합니다.
+ *   가장 먼저 복습할 단어는 O(log n), 게임이 끝난 단어의 일정 갱신은 꺼냈다가 다시 넣는 O(log n)입니다.
+ * - 일정은 SM-2 방식으로 계산합니다. 틀리면 간격이 1일로 돌아가고, 맞힐수록 1일 -> 6일 -> 간격 x 난이도 계수로 늘어납니다.
+ * - 모든 메서드는 이 객체를 잠그고 호출해야 합니다.
+ */
+final class ReviewQueue {
+
+    private static final short INITIAL_EASE = 250;
+    private static final short MIN_EASE = 130;
+
+    /**
+     * 복습 날짜 순 (같은 날이면 단어 ID 순)
+     */
+    private final TreeSet<Card> byDue = new TreeSet<>(
+            Comparator.comparingLong((Card c) -> c.dueDay).thenComparingLong(c -> c.wordId));
+
+    /**
+     * 단어 ID를 Key로 하는 카드
+     */
+    private final Map<Long, Card> byWord = new HashMap<>();
+
+    ReviewQueue(List<ReviewItem> items) {
+        for (ReviewItem item : items) {
+            Card card = new Card(item.getWordId());
+            card.dueDay = item.getDueDate().toEpochDay();
+            card.intervalDays = item.getIntervalDays();
+            card.ease = item.getEase();
+            card.repetitions = item.getRepetitions();
+            byWord.put(card.wordId, card);
+            byDue.add(card);
+        }
+    }
+
+    /**
+     * 오늘까지 복습해야 할 단어 중 복습 날짜가 가장 빠르고 지금 반/선생님의 단어인 것을 찾습니다.
+     * 단어 색인에 없는 단어의 카드는 건너뛰기만 합니다. (삭제된 단어의 카드는 remove()로 뺌)
+     *
+     * @return 단어, 오늘 복습할 단어가 없다면 null
+     */
+    PooledWord nextDue(long today, WordPool pool, Long courseId, Long teacherId) {
+        for (Card card : byDue) {
+            if (card.dueDay > today) {
+                return null;
+            }
+            PooledWord word = pool.get(card.wordId);
+            if (word != null && Objects.equals(word.getCourseId(), courseId)
+                    && Objects.equals(word.getTeacherId(), teacherId)) {
+                return word;
+            }
+            // 반이 바뀌기 전의 단어는 남겨 두고 건너뜀 (원래 반으로 돌아가면 다시 복습)
+        }
+        return null;
+    }
+
+    /**
+     * 삭제된 단어의 카드를 대기열에서 뺍니다.
+     */
+    void remove(long wordId) {
+        Card card = byWord.remove(wordId);
+        if (card != null) {
+            byDue.remove(card);
+        }
+    }
+
+    /**
+     * 게임 결과를 반영해 단어의 복습 일정을 갱신합니다.
+     * 대기열에 없는 단어는 틀렸을 때만 새로 추가합니다.
+     *
+     * @param quality 0~5 회상 점수 (3 미만이면 틀린 것으로 보고 처음부터 다시 복습)
+     * @return 갱신된 카드, 대기열에 없는 단어를 맞혔다면 null
+     */
+    Card record(long wordId, int quality, long today) {
+        Card card = byWord.get(wordId);
+        if (card == null) {
+            if (quality >= 3) {
+                return null;
+            }
+            card = new Card(wordId);
+            card.ease = INITIAL_EASE;
+            byWord.put(wordId, card);
+        } else {
+            byDue.remove(card);  // 정렬 기준이 바뀌므로 꺼냈다가 다시 넣음
+        }
+
+        if (quality < 3) {
+            card.repetitions = 0;
+            card.intervalDays = 1;
+        } else {
+            card.repetitions = (byte) Math.min(Byte.MAX_VALUE, card.repetitions + 1);
+            if (card.repetitions == 1) {
+                card.intervalDays = 1;
+            } else if (card.repetitions == 2) {
+                card.intervalDays = 6;
+            } else {
+                card.intervalDays = (short) Math.min(Short.MAX_VALUE, Math.round(card.intervalDays * card.ease / 100.0));
+            }
+        }
+        int miss = 5 - quality;
+        card.ease = (short) Math.max(MIN_EASE, card.ease + 10 - miss * (8 + miss * 2));
+        card.dueDay = today + card.intervalDays;
+
+        byDue.add(card);
+        return card;
+    }
+
+    /**
+     * 복습할 단어 하나의 일정
+     */
+    static final class Card {
+        final long wordId;
+        long dueDay;         // 다음 복습 날짜 (epoch day)
+        short intervalDays;  // 현재 복습 간격 (일)
+        short ease;          // 난이도 계수 x 100
+        byte repetitions;    // 연속으로 맞힌 횟수
+
+        private Card(long wordId) {
+            this.wordId = wordId;
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.estelle.hangman.game;
+
+import com.estelle.hangman.domain.ReviewItem;
+import com.estelle.hangman.game.WordPool.PooledWord;
+import com.estelle.hangman.repository.ReviewItemRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 학생별 복습 대기열(ReviewQueue)을 보관하는 저장소입니다.
+ * 학생이 틀린 단어를 SM-2 일정에 따라 다시 출제합니다. (REVIEW 모드)
+ *
+ * - 대기열은 학생이 처음 필요로 할 때 review_item 테이블에서 그 학생의 행만 읽어 만듭니다. (게임 기록은 읽지 않음)
+ * - 게임이 끝날 때마다 해당 단어의 일정을 대기열에서 O(log n)으로 갱신하고, 그 단어의 행 하나만 ReviewItemWriter에 넘깁니다.
+ * - 단어가 삭제되면(removeWord) 메모리의 대기열과 DB에서 그 단어의 카드를 뺍니다.
+ *   단어 색인에서 잠시 보이지 않는 단어는 건너뛰기만 하고 지우지 않습니다.
+ *   실제 저장은 기록 스레드가 모아서 하므로, 게임을 끝내는 추측이 DB 저장을 기다리지 않습니다.
+ * - 최대 개수를 넘으면 가장 오랫동안 사용하지 않은 학생의 대기열부터 메모리에서 버립니다. (LRU)
+ *   모든 변경은 DB나 기록기에 있으므로, 버려진 학생은 다음에 필요할 때 DB에서 읽고 아직 저장되지 않은 행으로 덮어씁니다.
+ * - ShuffleBagStore와 같이 학생 ID로 나눈 여러 개의 LRU Map(segment)을 사용합니다.
+ */
+@Component
+public class ReviewQueueStore {
+
+    /**
+     * LRU Map 개수 (2의 거듭제곱)
+     */
+    private static final int SEGMENTS = 16;
+
+    private final WordPool wordPool;
+    private final ReviewItemRepository reviewItemRepository;
+    private final ReviewItemWriter reviewItemWriter;
+
+    /**
+     * 학생 ID를 Key로 하는 복습 대기열 (접근 순서를 유지하는 LinkedHashMap, 각각 최대 개수의 1/SEGMENTS까지 보관)
+     */
+    private final List<Map<Long, ReviewQueue>> segments;
+
+    public ReviewQueueStore(
+            WordPool wordPool,
+            ReviewItemRepository reviewItemRepository,
+            ReviewItemWriter reviewItemWriter,
+            @Value("${game.review.max-students:100000}") int maxStudents) {
+        this.wordPool = wordPool;
+        this.reviewItemRepository = reviewItemRepository;
+        this.reviewItemWriter = reviewItemWriter;
+        int maxPerSegment = Math.max(1, maxStudents / SEGMENTS);
+        this.segments = newSegments(maxPerSegment);
+    }
+
+    private static List<Map<Long, ReviewQueue>> newSegments(int maxPerSegment) {
+        List<Map<Long, ReviewQueue>> segments = new ArrayList<>(SEGMENTS);
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments.add(new LinkedHashMap<>(64, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, ReviewQueue> eldest) {
+                    return size() > maxPerSegment;
+                }
+            });
+        }
+        return List.copyOf(segments);
+    }
+
+    /**
+     * 오늘 복습할 단어 중 복습 날짜가 가장 빠른 단어를 고릅니다.
+     *
+     * @param studentId 학생 ID
+     * @param courseId  학생의 반 ID
+     * @param teacherId 학생의 담당 선생님 ID
+     * @return 단어, 오늘 복습할 단어가 없다면 null
+     */
+    public PooledWord nextDue(Long studentId, Long courseId, Long teacherId) {
+        ReviewQueue queue = queueOf(studentId);
+        synchronized (queue) {
+            return queue.nextDue(LocalDate.now().toEpochDay(), wordPool, courseId, teacherId);
+        }
+    }
+
+    /**
+     * 삭제된 단어의 복습 일정을 모든 학생에게서 지웁니다.
+     * 트랜잭션 안에서 호출되면 단어 삭제가 커밋된 뒤에 반영합니다.
+     *
+     * @param wordId 삭제된 단어 ID
+     */
+    public void removeWord(Long wordId) {
+        WordPool.afterCommit(() -> {
+            // 기록기에 먼저 알려야, 그사이 끝난 게임의 행이 삭제 뒤에 다시 저장되지 않음
+            reviewItemWriter.deleteWord(wordId);
+            for (Map<Long, ReviewQueue> queues : segments) {
+                List<ReviewQueue> loaded;
+                synchronized (queues) {
+                    loaded = new ArrayList<>(queues.values());
+                }
+                for (ReviewQueue queue : loaded) {
+                    synchronized (queue) {
+                        queue.remove(wordId);
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * 끝난 게임의 결과를 복습 일정에 반영합니다.
+     * 틀린 단어는 대기열에 추가되고, 대기열에 있던 단어는 결과에 따라 다음 복습 날짜가 정해집니다.
+     *
+     * @param studentId  게임을 진행한 학생 ID
+     * @param wordId     게임 단어 ID
+     * @param success    성공 여부
+     * @param wrongCount 틀린 글자 수
+     */
+    public void recordResult(Long studentId, Long wordId, boolean success, int wrongCount) {
+        ReviewQueue queue = queueOf(studentId);
+        LocalDate today = LocalDate.now();
+        synchronized (queue) {
+            ReviewQueue.Card card = queue.record(wordId, quality(success, wrongCount), today.toEpochDay());
+            if (card == null) {
+                return;
+            }
+            // 같은 학생의 저장 순서가 뒤바뀌지 않도록 대기열을 잠근 채로 기록기에 넘김 (DB 저장은 기다리지 않음)
+            reviewItemWriter.submit(new ReviewItem(studentId, wordId, LocalDate.ofEpochDay(card.dueDay),
+                    card.intervalDays, card.ease, card.repetitions));
+        }
+    }
+
+    /**
+     * 게임 결과를 SM-2의 회상 점수(0~5)로 바꿉니다. 틀린 글자가 적을수록 높은 점수입니다.
+     */
+    static int quality(boolean success, int wrongCount) {
+        if (!success) {
+            return 1;
+        }
+        if (wrongCount <= 1) {
+            return 5;
+        }
+        return wrongCount <= 4 ? 4 : 3;
+    }
+
+    /**
+     * 학생의 복습 대기열을 가져옵니다. 메모리에 없다면 DB에서 읽어 만듭니다.
+     */
+    private ReviewQueue queueOf(Long studentId) {
+        Map<Long, ReviewQueue> queues = segments.get(Long.hashCode(studentId) & (SEGMENTS - 1));
+        synchronized (queues) {
+            ReviewQueue queue = queues.get(studentId);
+            if (queue != null) {
+                return queue;
+            }
+        }
+
+        // DB 조회는 Map 잠금 밖에서 하고, 그사이 다른 요청이 먼저 만들었다면 그 대기열을 사용
+        // 아직 저장되지 않은 행을 DB보다 먼저 읽어야, 그사이 저장이 끝난 행을 놓치지 않음
+        Map<Long, ReviewItem> unsaved = reviewItemWriter.pending(studentId);
+        List<ReviewItem> items = new ArrayList<>();
+        for (ReviewItem item : reviewItemRepository.findByStudentId(studentId)) {
+            if (!unsaved.containsKey(item.getWordId())) {
+                items.add(item);
+            }
+        }
+        items.addAll(unsaved.values());
+        ReviewQueue loaded = new ReviewQueue(items);
+        synchronized (queues) {
+            ReviewQueue queue = queues.get(studentId);
+            if (queue == null) {
+                queues.put(studentId, loaded);
+                queue = loaded;
+            }
+            return queue;
+        }
+    }
+}
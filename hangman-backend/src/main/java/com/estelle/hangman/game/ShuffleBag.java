@@ -0,0 +1,129 @@
+package com.estelle.hangman.game;
+
+import com.estelle.hangman.game.WordPool.PooledWord;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 학생 한 명이 아직 보지 않은 단어들의 순서를 담은 주머니입니다.
+ * 반의 단어 ID들을 무작위로 섞은 int 배열과 다음에 꺼낼 위치(cursor)만 보관하며,
+ * 끝까지 꺼내면 다시 섞어서 새 바퀴를 시작합니다. 한 바퀴 안에서는 같은 단어가 두 번 나오지 않습니다.
+ *
+ * - 바퀴 도중 추가된 단어는 아직 꺼내지 않은 구간의 무작위 위치에 끼워 넣습니다.
+ * - 바퀴 도중 삭제된 단어는 꺼낼 때 단어 색인에 없으면 건너뜁니다.
+ * - 단어 ID는 int 범위 안에 있다고 가정합니다. (학생마다 단어 수 x 4바이트)
+ */
+final class ShuffleBag {
+
+    private final Long courseId;
+    private final Long teacherId;
+
+    /**
+     * 마지막으로 반영한 단어 색인 배열 (색인 배열이 교체되었다면 단어가 추가/삭제된 것)
+     */
+    private PooledWord[] source;
+
+    /**
+     * 섞인 단어 ID 순서와 다음에 꺼낼 위치
+     */
+    private int[] order = new int[0];
+    private int cursor;
+
+    /**
+     * 마지막으로 꺼낸 단어 ID (새 바퀴의 첫 단어가 직전 단어와 같지 않도록 사용)
+     */
+    private int lastId = -1;
+
+    ShuffleBag(Long courseId, Long teacherId) {
+        this.courseId = courseId;
+        this.teacherId = teacherId;
+    }
+
+    /**
+     * @return 이 주머니가 주어진 반/선생님의 단어로 만들어졌다면 true
+     */
+    boolean isFor(Long courseId, Long teacherId) {
+        return Objects.equals(this.courseId, courseId) && Objects.equals(this.teacherId, teacherId);
+    }
+
+    /**
+     * 다음 단어를 꺼냅니다.
+     *
+     * @return 단어, 반에 단어가 하나도 없다면 null
+     */
+    synchronized PooledWord next(WordPool pool) {
+        PooledWord[] current = pool.wordsByCourseAndTeacher(courseId, teacherId);
+        if (current.length == 0) {
+            return null;
+        }
+        if (source == null) {
+            refill(current);
+        } else if (current != source) {
+            addNewWords(current);
+        }
+
+        // 이번 바퀴에서 남은 단어를 꺼내고, 다 꺼냈다면 새로 섞어서 한 번 더 시도
+        for (int round = 0; round < 2; round++) {
+            while (cursor < order.length) {
+                int id = order[cursor++];
+                PooledWord word = pool.get((long) id);
+                if (word != null) {  // 바퀴 도중 삭제된 단어는 건너뜀
+                    lastId = id;
+                    return word;
+                }
+            }
+            refill(current);
+        }
+        return null;
+    }
+
+    /**
+     * 현재 단어들로 새 바퀴를 시작합니다. (Fisher-Yates 섞기)
+     */
+    private void refill(PooledWord[] words) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int[] ids = new int[words.length];
+        for (int i = 0; i < words.length; i++) {
+            ids[i] = Math.toIntExact(words[i].getId());
+        }
+        for (int i = ids.length - 1; i > 0; i--) {
+            swap(ids, i, random.nextInt(i + 1));
+        }
+        // 직전 바퀴의 마지막 단어가 바로 다시 나오지 않도록 첫 단어를 바꿈
+        if (ids.length > 1 && ids[0] == lastId) {
+            swap(ids, 0, 1 + random.nextInt(ids.length - 1));
+        }
+        order = ids;
+        cursor = 0;
+        source = words;
+    }
+
+    /**
+     * 바퀴 도중 추가된 단어를 아직 꺼내지 않은 구간의 무작위 위치에 끼워 넣습니다.
+     */
+    private void addNewWords(PooledWord[] words) {
+        int[] known = order.clone();
+        Arrays.sort(known);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (PooledWord word : words) {
+            int id = Math.toIntExact(word.getId());
+            if (Arrays.binarySearch(known, id) >= 0) {
+                continue;
+            }
+            int end = order.length;
+            order = Arrays.copyOf(order, end + 1);
+            int position = cursor + random.nextInt(end - cursor + 1);
+            order[end] = order[position];
+            order[position] = id;
+        }
+        source = words;
+    }
+
+    private static void swap(int[] array, int i, int j) {
+        int tmp = array[i];
+        array[i] = array[j];
+        array[j] = tmp;
+    }
+}
@@ -0,0 +1,92 @@
+package com.estelle.hangman.game;
+
+import com.estelle.hangman.game.WordPool.PooledWord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 학생별 단어 주머니(ShuffleBag)를 보관하는 저장소입니다.
+ * 학생은 반의 모든 단어를 한 번씩 본 뒤에야 같은 단어를 다시 보게 됩니다.
+ *
+ * - 주머니는 학생이 처음 게임을 시작할 때 만들어집니다.
+ * - 최대 개수를 넘으면 가장 오랫동안 게임을 시작하지 않은 학생의 주머니부터 버립니다. (LRU)
+ *   버려진 학생은 다음 게임에서 새 바퀴를 시작할 뿐이므로 정확성에는 문제가 없습니다.
+ * - 학생 ID로 나눈 여러 개의 LRU Map(segment)을 사용해 여러 학생이 동시에 시작해도 한 잠금에 몰리지 않게 합니다.
+ *   Map 잠금은 조회/등록하는 동안만 잡고, 단어를 꺼내는 작업은 주머니 단위로 잠급니다.
+ */
+@Component
+public class ShuffleBagStore {
+
+    /**
+     * LRU Map 개수 (2의 거듭제곱)
+     */
+    private static final int SEGMENTS = 16;
+
+    private final WordPool wordPool;
+
+    /**
+     * 학생 ID를 Key로 하는 주머니 (접근 순서를 유지하는 LinkedHashMap, 각각 최대 개수의 1/SEGMENTS까지 보관)
+     */
+    private final List<Map<Long, ShuffleBag>> segments;
+
+    public ShuffleBagStore(
+            WordPool wordPool,
+            @Value("${game.shuffle-bag.max-students:100000}") int maxStudents) {
+        this.wordPool = wordPool;
+        int maxPerSegment = Math.max(1, maxStudents / SEGMENTS);
+        this.segments = newSegments(maxPerSegment);
+    }
+
+    private static List<Map<Long, ShuffleBag>> newSegments(int maxPerSegment) {
+        List<Map<Long, ShuffleBag>> segments = new ArrayList<>(SEGMENTS);
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments.add(new LinkedHashMap<>(64, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, ShuffleBag> eldest) {
+                    return size() > maxPerSegment;
+                }
+            });
+        }
+        return List.copyOf(segments);
+    }
+
+    /**
+     * 학생이 이번 바퀴에서 아직 보지 않은 단어 하나를 꺼냅니다.
+     *
+     * @param studentId 학생 ID
+     * @param courseId  학생의 반 ID
+     * @param teacherId 학생의 담당 선생님 ID
+     * @return 단어, 반에 단어가 하나도 없다면 null
+     */
+    public PooledWord next(Long studentId, Long courseId, Long teacherId) {
+        Map<Long, ShuffleBag> bags = segments.get(Long.hashCode(studentId) & (SEGMENTS - 1));
+        ShuffleBag bag;
+        synchronized (bags) {
+            bag = bags.get(studentId);
+            // 반이나 선생님이 바뀐 학생은 새 주머니로 시작
+            if (bag == null || !bag.isFor(courseId, teacherId)) {
+                bag = new ShuffleBag(courseId, teacherId);
+                bags.put(studentId, bag);
+            }
+        }
+        return bag.next(wordPool);
+    }
+
+    /**
+     * @return 보관 중인 주머니 수
+     */
+    public int size() {
+        int size = 0;
+        for (Map<Long, ShuffleBag> bags : segments) {
+            synchronized (bags) {
+                size += bags.size();
+            }
+        }
+        return size;
+    }
+}
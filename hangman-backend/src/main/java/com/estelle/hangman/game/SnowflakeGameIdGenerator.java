@@ -0,0 +1,66 @@
+package com.estelle.hangman.game;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Snowflake 방식으로 게임 ID를 만드는 생성기입니다.
+ * 잠금 없이(CAS) 동작하며, 같은 서버 안에서는 항상 증가하는 ID를 만들고
+ * 노드 번호가 다른 서버끼리는 ID가 겹치지 않습니다.
+ *
+ * ID 구성 (총 53비트 - 자바스크립트 Number로도 정확히 표현되는 범위)
+ * [ 타임스탬프 41비트 (EPOCH 이후 밀리초) | 노드 번호 5비트 | 시퀀스 7비트 ]
+ *
+ * 같은 밀리초에 128개를 넘게 요청하면 다음 밀리초의 시퀀스를 미리 빌려 씁니다.
+ * 기다리지 않고 바로 ID를 돌려주며, 부하가 줄어들면 실제 시간이 다시 따라잡습니다.
+ * 서버 시계가 뒤로 가더라도 마지막으로 발급한 값보다 작아지지 않습니다.
+ */
+@Component
+public class SnowflakeGameIdGenerator implements GameIdGenerator {
+
+    /**
+     * 타임스탬프 기준 시각 (2024-01-01T00:00:00Z)
+     */
+    static final long EPOCH = 1704067200000L;
+
+    static final int NODE_BITS = 5;
+    static final int SEQUENCE_BITS = 7;
+
+    static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    /**
+     * 이 서버의 노드 번호 (0 ~ 31)
+     */
+    private final long nodeId;
+
+    /**
+     * 마지막으로 발급한 (타임스탬프 << SEQUENCE_BITS | 시퀀스) 값
+     */
+    private final AtomicLong lastState = new AtomicLong();
+
+    public SnowflakeGameIdGenerator(@Value("${game.id.node-id:0}") long nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("game.id.node-id must be between 0 and " + MAX_NODE_ID);
+        }
+        this.nodeId = nodeId;
+    }
+
+    @Override
+    public long nextId() {
+        // 현재 시각의 첫 번째 시퀀스와 (마지막 값 + 1) 중 큰 값을 다음 값으로 사용
+        long now = (System.currentTimeMillis() - EPOCH) << SEQUENCE_BITS;
+        long state = lastState.updateAndGet(last -> Math.max(last + 1, now));
+
+        long timestamp = state >>> SEQUENCE_BITS;
+        long sequence = state & SEQUENCE_MASK;
+        return (timestamp << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | sequence;
+    }
+
+    @Override
+    public long timestampOf(long gameId) {
+        return (gameId >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH;
+    }
+}
@@ -0,0 +1,455 @@
+package com.estelle.hangman.game;
+
+import com.estelle.hangman.domain.Word;
+import com.estelle.hangman.repository.WordRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게임에 사용할 단어들을 메모리에 색인해 두는 저장소입니다.
+ * 게임을 시작할 때마다 단어 목록 전체를 DB에서 조회하지 않고, 여기서 바로 무작위로 하나를 고릅니다.
+ *
+ * - (반, 선생님), 반, 선생님 세 가지 기준으로 단어 배열을 나누어 보관합니다.
+ * - 무작위 선택은 배열에서 ThreadLocalRandom으로 번호 하나를 뽑는 O(1) 작업이며 잠금이 없습니다.
+ * - 단어가 추가/수정/삭제되면 해당 단어가 속한 배열만 새로 만들어 교체합니다. (copy-on-write)
+ *   단어 변경은 드물고 배열은 반/선생님 단위라 작으므로, 읽기를 잠금 없이 하는 쪽을 택했습니다.
+ * - 단어 검색(키워드/카테고리/난이도)도 DB 대신 함께 관리하는 검색 색인(WordSearchIndex)으로 처리합니다.
+ */
+@Slf4j
+@Component
+public class WordPool {
+
+    private static final PooledWord[] EMPTY = new PooledWord[0];
+
+    private final WordRepository wordRepository;
+
+    /**
+     * 단어 ID를 Key로 하는 전체 단어
+     */
+    private final Map<Long, PooledWord> byId = new ConcurrentHashMap<>();
+
+    /**
+     * 기준별 단어 배열 (배열은 한 번 만들면 바꾸지 않고 통째로 교체)
+     */
+    private final Map<CourseTeacher, PooledWord[]> byCourseAndTeacher = new ConcurrentHashMap<>();
+    private final Map<Long, PooledWord[]> byCourse = new ConcurrentHashMap<>();
+    private final Map<Long, PooledWord[]> byTeacher = new ConcurrentHashMap<>();
+
+    /**
+     * 키워드/카테고리/난이도 검색 색인
+     */
+    private final WordSearchIndex searchIndex = new WordSearchIndex();
+
+    /**
+     * 카테고리별 단어 수와 평균 난이도 요약
+     */
+    private final CategorySummary categorySummary = new CategorySummary();
+
+    public WordPool(WordRepository wordRepository) {
+        this.wordRepository = wordRepository;
+    }
+
+    /**
+     * 서버 시작 시 모든 단어를 한 번 읽어 색인을 만듭니다.
+     * 단어마다 배열을 복사하지 않도록 목록에 모은 뒤 한 번에 배열로 바꿉니다.
+     */
+    @PostConstruct
+    public synchronized void load() {
+        long startTime = System.nanoTime();
+        Map<CourseTeacher, List<PooledWord>> courseAndTeacher = new HashMap<>();
+        Map<Long, List<PooledWord>> course = new HashMap<>();
+        Map<Long, List<PooledWord>> teacher = new HashMap<>();
+        for (Word word : wordRepository.findAll()) {
+            PooledWord pooled = toPooled(word);
+            byId.put(pooled.id, pooled);
+            categorySummary.add(pooled);
+            courseAndTeacher.computeIfAbsent(new CourseTeacher(pooled.courseId, pooled.teacherId), k -> new ArrayList<>()).add(pooled);
+            course.computeIfAbsent(pooled.courseId, k -> new ArrayList<>()).add(pooled);
+            teacher.computeIfAbsent(pooled.teacherId, k -> new ArrayList<>()).add(pooled);
+        }
+        courseAndTeacher.forEach((k, words) -> byCourseAndTeacher.put(k, words.toArray(EMPTY)));
+        course.forEach((k, words) -> byCourse.put(k, words.toArray(EMPTY)));
+        teacher.forEach((k, words) -> byTeacher.put(k, words.toArray(EMPTY)));
+        searchIndex.addAll(byId.values());
+        log.info("Loaded {} words ({} grams) into word pool in {}ms", byId.size(), searchIndex.gramCount(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+    }
+
+    /**
+     * 반과 선생님이 모두 일치하는 단어 중 하나를 무작위로 고릅니다.
+     *
+     * @return 선택된 단어, 해당하는 단어가 없다면 null
+     */
+    public PooledWord randomByCourseAndTeacher(Long courseId, Long teacherId) {
+        return pick(byCourseAndTeacher.get(new CourseTeacher(courseId, teacherId)));
+    }
+
+    /**
+     * 반의 단어 중 하나를 무작위로 고릅니다.
+     *
+     * @return 선택된 단어, 해당하는 단어가 없다면 null
+     */
+    public PooledWord randomByCourse(Long courseId) {
+        return pick(byCourse.get(courseId));
+    }
+
+    /**
+     * 선생님이 등록한 단어 중 하나를 무작위로 고릅니다.
+     *
+     * @return 선택된 단어, 해당하는 단어가 없다면 null
+     */
+    public PooledWord randomByTeacher(Long teacherId) {
+        return pick(byTeacher.get(teacherId));
+    }
+
+    /**
+     * 반과 선생님이 모두 일치하는 단어 배열을 그대로 반환합니다. (호출하는 쪽에서 수정하면 안 됨)
+     * 단어가 추가/삭제될 때마다 배열이 새로 교체되므로, 이전에 받은 배열과 같은 객체인지로 변경 여부를 알 수 있습니다.
+     *
+     * @return 단어 배열, 해당하는 단어가 없다면 빈 배열
+     */
+    PooledWord[] wordsByCourseAndTeacher(Long courseId, Long teacherId) {
+        PooledWord[] words = byCourseAndTeacher.get(new CourseTeacher(courseId, teacherId));
+        return words != null ? words : EMPTY;
+    }
+
+    /**
+     * 키워드가 들어 있고 카테고리/난이도가 일치하는 단어를 ID 순서로 한 페이지만큼 찾습니다. (키워드와 카테고리 모두 대소문자 구분 없음)
+     * 키워드가 세 글자 이상이면 trigram 색인으로, 더 짧으면 한 글자/두 글자 색인으로 후보를 좁힌 뒤 직접 확인합니다.
+     * 아무 조건도 없다면 전체 단어를 확인합니다.
+     *
+     * @param keyword    검색어 (null이거나 비어 있으면 무시)
+     * @param category   카테고리 (null이면 무시)
+     * @param difficulty 난이도 (null이면 무시)
+     * @param after      이 ID보다 큰 단어부터 찾음 (처음 페이지는 0)
+     * @param limit      최대 단어 수
+     * @return 조건에 맞는 단어 ID (오름차순)
+     */
+    public List<Long> search(String keyword, String category, Integer difficulty, long after, int limit) {
+        String key = keyword == null || keyword.isEmpty() ? null : keyword;
+        int[] candidates = searchIndex.candidates(key, category, difficulty);
+
+        List<Long> ids = new ArrayList<>();
+        if (candidates == null) {
+            for (PooledWord word : byId.values()) {
+                if (word.id > after && matches(word, key, category, difficulty)) {
+                    ids.add(word.id);
+                }
+            }
+            ids.sort(null);
+            return ids.size() > limit ? new ArrayList<>(ids.subList(0, limit)) : ids;
+        }
+
+        // 후보는 오름차순이므로 after 다음 위치부터 확인
+        int start = Arrays.binarySearch(candidates, (int) Math.min(after, Integer.MAX_VALUE));
+        start = start >= 0 ? start + 1 : -start - 1;
+        for (int i = start; i < candidates.length && ids.size() < limit; i++) {
+            // 색인 갱신 도중일 수 있으므로 후보도 현재 단어로 다시 확인
+            PooledWord word = byId.get((long) candidates[i]);
+            if (word != null && matches(word, key, category, difficulty)) {
+                ids.add(word.id);
+            }
+        }
+        return ids;
+    }
+
+    private static boolean matches(PooledWord word, String keyword, String category, Integer difficulty) {
+        return (category == null || category.equalsIgnoreCase(word.category))
+                && (difficulty == null || difficulty.equals(word.difficulty))
+                && (keyword == null || containsIgnoreCase(word.text, keyword));
+    }
+
+    private static boolean containsIgnoreCase(String text, String keyword) {
+        for (int i = 0; i + keyword.length() <= text.length(); i++) {
+            if (text.regionMatches(true, i, keyword, 0, keyword.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 카테고리별 단어 수와 평균 난이도를 돌려줍니다. (단어가 바뀌지 않았다면 이전에 만든 목록을 그대로 반환)
+     *
+     * @return 카테고리 이름 순의 통계 (수정할 수 없는 목록)
+     */
+    public List<CategoryStats> categories() {
+        return categorySummary.categories();
+    }
+
+    /**
+     * @param wordId 단어 ID
+     * @return 단어, 없다면 null
+     */
+    public PooledWord get(Long wordId) {
+        return byId.get(wordId);
+    }
+
+    /**
+     * @return 보관 중인 단어 수
+     */
+    public int size() {
+        return byId.size();
+    }
+
+    /**
+     * 단어를 추가하거나, 이미 있다면 새 내용으로 교체합니다.
+     * 트랜잭션 안에서 호출되면 커밋이 끝난 뒤에 반영합니다.
+     */
+    public void put(Word word) {
+        afterCommit(() -> putNow(word));
+    }
+
+    /**
+     * 새로 등록된 단어들을 한 번에 추가합니다. (대량 등록용, 이미 있는 단어를 교체하지는 않음)
+     * 단어마다 배열과 검색 목록을 다시 만들지 않고, 배열/목록마다 한 번씩만 새로 만듭니다.
+     * 트랜잭션 안에서 호출되면 커밋이 끝난 뒤에 반영합니다.
+     */
+    public void putAll(List<Word> words) {
+        afterCommit(() -> addAllNow(words));
+    }
+
+    /**
+     * @return 반에 등록된 단어들의 글자열 (대소문자는 저장된 그대로)
+     */
+    public Set<String> textsByCourse(Long courseId) {
+        Set<String> texts = new HashSet<>();
+        PooledWord[] words = byCourse.get(courseId);
+        if (words != null) {
+            for (PooledWord word : words) {
+                texts.add(word.text);
+            }
+        }
+        return texts;
+    }
+
+    /**
+     * 단어를 제거합니다.
+     * 트랜잭션 안에서 호출되면 커밋이 끝난 뒤에 반영합니다.
+     */
+    public void remove(Long wordId) {
+        afterCommit(() -> removeNow(wordId));
+    }
+
+    private static PooledWord pick(PooledWord[] words) {
+        if (words == null || words.length == 0) {
+            return null;
+        }
+        return words[ThreadLocalRandom.current().nextInt(words.length)];
+    }
+
+    private static PooledWord toPooled(Word word) {
+        return new PooledWord(word.getId(), word.getWord(),
+                word.getCourse().getId(), word.getTeacher().getId(),
+                word.getCategory(), word.getDifficulty());
+    }
+
+    /**
+     * 단어를 추가하거나 교체합니다.
+     * 잠금 없이 읽는 쪽이 교체 도중에 단어를 없는 것으로 보지 않도록, byId의 항목을 한 번에 바꾸고
+     * 배열과 검색 색인도 새 단어를 먼저 넣은 뒤에 이전 단어를 뺍니다.
+     */
+    private synchronized void putNow(Word word) {
+        PooledWord pooled = toPooled(word);
+        PooledWord old = byId.put(pooled.id, pooled);
+        if (old == null) {
+            addIndexes(pooled);
+            return;
+        }
+
+        searchIndex.replace(old, pooled);
+        categorySummary.remove(old);
+        categorySummary.add(pooled);
+        CourseTeacher oldKey = new CourseTeacher(old.courseId, old.teacherId);
+        CourseTeacher newKey = new CourseTeacher(pooled.courseId, pooled.teacherId);
+        replaceIn(byCourseAndTeacher, oldKey, newKey, pooled);
+        replaceIn(byCourse, old.courseId, pooled.courseId, pooled);
+        replaceIn(byTeacher, old.teacherId, pooled.teacherId, pooled);
+    }
+
+    /**
+     * 기준이 그대로라면 배열 안의 단어만 바꾼 새 배열로 교체하고,
+     * 바뀌었다면 새 기준의 배열에 먼저 넣은 뒤 이전 기준의 배열에서 뺍니다.
+     */
+    private static <K> void replaceIn(Map<K, PooledWord[]> index, K oldKey, K newKey, PooledWord word) {
+        if (oldKey.equals(newKey)) {
+            index.compute(newKey, (k, arr) -> replaced(arr, word));
+        } else {
+            index.compute(newKey, (k, arr) -> append(arr, word));
+            index.computeIfPresent(oldKey, (k, arr) -> without(arr, word.id));
+        }
+    }
+
+    private synchronized void addNow(Word word) {
+        PooledWord pooled = toPooled(word);
+        byId.put(pooled.id, pooled);
+        addIndexes(pooled);
+    }
+
+    private void addIndexes(PooledWord pooled) {
+        searchIndex.add(pooled);
+        categorySummary.add(pooled);
+        byCourseAndTeacher.compute(new CourseTeacher(pooled.courseId, pooled.teacherId), (k, arr) -> append(arr, pooled));
+        byCourse.compute(pooled.courseId, (k, arr) -> append(arr, pooled));
+        byTeacher.compute(pooled.teacherId, (k, arr) -> append(arr, pooled));
+    }
+
+    private synchronized void addAllNow(List<Word> words) {
+        Map<CourseTeacher, List<PooledWord>> courseAndTeacher = new HashMap<>();
+        Map<Long, List<PooledWord>> course = new HashMap<>();
+        Map<Long, List<PooledWord>> teacher = new HashMap<>();
+        List<PooledWord> added = new ArrayList<>(words.size());
+        for (Word word : words) {
+            PooledWord pooled = toPooled(word);
+            if (byId.putIfAbsent(pooled.id, pooled) != null) {
+                continue;
+            }
+            added.add(pooled);
+            categorySummary.add(pooled);
+            courseAndTeacher.computeIfAbsent(new CourseTeacher(pooled.courseId, pooled.teacherId), k -> new ArrayList<>()).add(pooled);
+            course.computeIfAbsent(pooled.courseId, k -> new ArrayList<>()).add(pooled);
+            teacher.computeIfAbsent(pooled.teacherId, k -> new ArrayList<>()).add(pooled);
+        }
+        courseAndTeacher.forEach((k, list) -> byCourseAndTeacher.compute(k, (key, arr) -> appendAll(arr, list)));
+        course.forEach((k, list) -> byCourse.compute(k, (key, arr) -> appendAll(arr, list)));
+        teacher.forEach((k, list) -> byTeacher.compute(k, (key, arr) -> appendAll(arr, list)));
+        searchIndex.addAll(added);
+    }
+
+    private synchronized void removeNow(Long wordId) {
+        PooledWord pooled = byId.remove(wordId);
+        if (pooled == null) {
+            return;
+        }
+        searchIndex.remove(pooled);
+        categorySummary.remove(pooled);
+        byCourseAndTeacher.computeIfPresent(new CourseTeacher(pooled.courseId, pooled.teacherId), (k, arr) -> without(arr, wordId));
+        byCourse.computeIfPresent(pooled.courseId, (k, arr) -> without(arr, wordId));
+        byTeacher.computeIfPresent(pooled.teacherId, (k, arr) -> without(arr, wordId));
+    }
+
+    private static PooledWord[] append(PooledWord[] words, PooledWord word) {
+        if (words == null) {
+            return new PooledWord[]{word};
+        }
+        PooledWord[] copy = Arrays.copyOf(words, words.length + 1);
+        copy[words.length] = word;
+        return copy;
+    }
+
+    /**
+     * 같은 ID의 단어를 새 단어로 바꾼 새 배열을 만듭니다. (없다면 끝에 추가)
+     */
+    private static PooledWord[] replaced(PooledWord[] words, PooledWord word) {
+        if (words == null) {
+            return new PooledWord[]{word};
+        }
+        for (int i = 0; i < words.length; i++) {
+            if (words[i].id == word.id) {
+                PooledWord[] copy = words.clone();
+                copy[i] = word;
+                return copy;
+            }
+        }
+        return append(words, word);
+    }
+
+    private static PooledWord[] appendAll(PooledWord[] words, List<PooledWord> added) {
+        int length = words != null ? words.length : 0;
+        PooledWord[] copy = words != null ? Arrays.copyOf(words, length + added.size()) : new PooledWord[added.size()];
+        for (int i = 0; i < added.size(); i++) {
+            copy[length + i] = added.get(i);
+        }
+        return copy;
+    }
+
+    /**
+     * 단어를 뺀 새 배열을 만듭니다. 빈 배열이 되면 null을 반환해 Map에서 항목을 지웁니다.
+     */
+    private static PooledWord[] without(PooledWord[] words, Long wordId) {
+        for (int i = 0; i < words.length; i++) {
+            if (words[i].id == wordId.longValue()) {
+                if (words.length == 1) {
+                    return null;
+                }
+                PooledWord[] copy = Arrays.copyOf(words, words.length - 1);
+                // 마지막 단어를 지운 자리로 옮김 (순서는 무작위 선택에 영향 없음)
+                if (i < copy.length) {
+                    copy[i] = words[words.length - 1];
+                }
+                return copy;
+            }
+        }
+        return words;
+    }
+
+    /**
+     * 트랜잭션이 진행 중이라면 커밋된 뒤에, 아니라면 바로 실행합니다.
+     * (롤백된 변경이 색인에 남지 않도록 함)
+     */
+    static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * 색인에 보관하는 단어 정보 (JPA 엔티티 대신 게임에 필요한 값만 보관)
+     */
+    public static final class PooledWord {
+        private final long id;
+        private final String text;
+        private final Long courseId;
+        private final Long teacherId;
+        private final String category;
+        private final Integer difficulty;
+
+        PooledWord(long id, String text, Long courseId, Long teacherId, String category, Integer difficulty) {
+            this.id = id;
+            this.text = text;
+            this.courseId = courseId;
+            this.teacherId = teacherId;
+            this.category = category;
+            this.difficulty = difficulty;
+        }
+
+        public long getId() { return id; }
+
+        public String getText() { return text; }
+
+        public Long getCourseId() { return courseId; }
+
+        public Long getTeacherId() { return teacherId; }
+
+        public String getCategory() { return category; }
+
+        public Integer getDifficulty() { return difficulty; }
+    }
+
+    /**
+     * 카테고리 하나의 단어 수와 평균 난이도
+     */
+    public record CategoryStats(String category, int wordCount, double averageDifficulty) {
+    }
+}
@@ -0,0 +1,237 @@
+package com.estelle.hangman.game;
+
+import com.estelle.hangman.game.WordPool.PooledWord;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 단어 검색을 위한 메모리 색인입니다. (WordPool이 단어를 바꿀 때 함께 갱신함)
+ *
+ * - 단어에 들어 있는 연속된 세 글자(trigram)마다, 그리고 카테고리/난이도마다 단어 ID 목록(posting list)을 보관합니다.
+ *   목록은 Postings 형식으로 압축해 둡니다.
+ * - 키워드가 세 글자 이상이면 키워드의 trigram 목록들과 카테고리/난이도 목록을 짧은 것부터 교집합해 후보를 구합니다.
+ *   trigram이 모두 들어 있어도 붙어 있지 않을 수 있으므로, 후보는 WordPool에서 실제 포함 여부를 다시 확인합니다.
+ * - 한두 글자 키워드는 trigram으로 찾을 수 없으므로 한 글자/두 글자 목록을 따로 두고 그것으로 대신 찾습니다.
+ *   (알파벳 기준 26개 + 676개뿐이라 메모리 부담이 작음)
+ * - 단어와 카테고리는 대소문자를 구분하지 않도록 대문자로 바꿔서 색인합니다. (DB의 대소문자 무시 collation과 같은 결과)
+ * - 변경은 WordPool의 잠금 안에서만 일어나고, 조회는 잠금 없이 합니다. (목록은 통째로 교체)
+ */
+final class WordSearchIndex {
+
+    static final int GRAM = 3;
+
+    /**
+     * 후보가 이만큼 적어지면 훨씬 긴 목록과는 교집합하지 않고, 남은 조건은 단어를 직접 확인하게 둡니다.
+     * (긴 목록을 끝까지 풀어 읽는 것보다 후보 몇 개를 확인하는 편이 빠름)
+     */
+    private static final int MAX_LIST_RATIO = 32;
+
+    private final Map<Long, byte[]> byGram = new ConcurrentHashMap<>();
+    private final Map<String, byte[]> byCategory = new ConcurrentHashMap<>();
+    private final Map<Integer, byte[]> byDifficulty = new ConcurrentHashMap<>();
+
+    /**
+     * 단어들을 색인에 한 번에 추가합니다. (서버 시작, 대량 등록 시 사용)
+     * 조각/카테고리/난이도마다 새 ID들을 모아서 목록을 한 번씩만 다시 압축합니다.
+     */
+    void addAll(Collection<PooledWord> words) {
+        PooledWord[] sorted = words.toArray(new PooledWord[0]);
+        Arrays.sort(sorted, Comparator.comparingLong(PooledWord::getId));
+
+        Map<Long, IntList> grams = new HashMap<>();
+        Map<String, IntList> categories = new HashMap<>();
+        Map<Integer, IntList> difficulties = new HashMap<>();
+        for (PooledWord word : sorted) {
+            int id = Math.toIntExact(word.getId());
+            for (long gram : grams(word.getText())) {
+                grams.computeIfAbsent(gram, k -> new IntList()).add(id);
+            }
+            if (word.getCategory() != null) {
+                categories.computeIfAbsent(categoryKey(word.getCategory()), k -> new IntList()).add(id);
+            }
+            if (word.getDifficulty() != null) {
+                difficulties.computeIfAbsent(word.getDifficulty(), k -> new IntList()).add(id);
+            }
+        }
+        grams.forEach((k, ids) -> byGram.compute(k, (key, postings) -> ids.mergeInto(postings)));
+        categories.forEach((k, ids) -> byCategory.compute(k, (key, postings) -> ids.mergeInto(postings)));
+        difficulties.forEach((k, ids) -> byDifficulty.compute(k, (key, postings) -> ids.mergeInto(postings)));
+    }
+
+    void add(PooledWord word) {
+        int id = Math.toIntExact(word.getId());
+        for (long gram : grams(word.getText())) {
+            byGram.compute(gram, (k, postings) -> Postings.with(postings, id));
+        }
+        if (word.getCategory() != null) {
+            byCategory.compute(categoryKey(word.getCategory()), (k, postings) -> Postings.with(postings, id));
+        }
+        if (word.getDifficulty() != null) {
+            byDifficulty.compute(word.getDifficulty(), (k, postings) -> Postings.with(postings, id));
+        }
+    }
+
+    void remove(PooledWord word) {
+        int id = Math.toIntExact(word.getId());
+        for (long gram : grams(word.getText())) {
+            byGram.computeIfPresent(gram, (k, postings) -> Postings.without(postings, id));
+        }
+        if (word.getCategory() != null) {
+            byCategory.computeIfPresent(categoryKey(word.getCategory()), (k, postings) -> Postings.without(postings, id));
+        }
+        if (word.getDifficulty() != null) {
+            byDifficulty.computeIfPresent(word.getDifficulty(), (k, postings) -> Postings.without(postings, id));
+        }
+    }
+
+    /**
+     * 수정된 단어의 색인을 바꿉니다.
+     * 새 내용의 목록에 먼저 넣고 나서 새 내용에 없는 목록에서만 빼므로, 도중에 조회해도 단어가 빠져 보이지 않습니다.
+     */
+    void replace(PooledWord old, PooledWord word) {
+        int id = Math.toIntExact(word.getId());
+        Set<Long> newGrams = grams(word.getText());
+        for (long gram : newGrams) {
+            byGram.compute(gram, (k, postings) -> Postings.with(postings, id));
+        }
+        for (long gram : grams(old.getText())) {
+            if (!newGrams.contains(gram)) {
+                byGram.computeIfPresent(gram, (k, postings) -> Postings.without(postings, id));
+            }
+        }
+        String newCategory = word.getCategory() != null ? categoryKey(word.getCategory()) : null;
+        if (newCategory != null) {
+            byCategory.compute(newCategory, (k, postings) -> Postings.with(postings, id));
+        }
+        if (old.getCategory() != null && !categoryKey(old.getCategory()).equals(newCategory)) {
+            byCategory.computeIfPresent(categoryKey(old.getCategory()), (k, postings) -> Postings.without(postings, id));
+        }
+        if (word.getDifficulty() != null) {
+            byDifficulty.compute(word.getDifficulty(), (k, postings) -> Postings.with(postings, id));
+        }
+        if (old.getDifficulty() != null && !old.getDifficulty().equals(word.getDifficulty())) {
+            byDifficulty.computeIfPresent(old.getDifficulty(), (k, postings) -> Postings.without(postings, id));
+        }
+    }
+
+    /**
+     * 조건에 맞을 수 있는 후보 단어 ID를 구합니다. (키워드 포함 여부는 호출하는 쪽에서 다시 확인해야 함)
+     *
+     * @param keyword    검색어 (null이면 무시)
+     * @param category   카테고리 조건 (null이면 무시)
+     * @param difficulty 난이도 조건 (null이면 무시)
+     * @return 오름차순 후보 ID, 사용할 수 있는 색인 조건이 하나도 없다면 null (전체 단어를 확인해야 함)
+     */
+    int[] candidates(String keyword, String category, Integer difficulty) {
+        List<byte[]> lists = new ArrayList<>();
+        if (keyword != null && keyword.length() >= GRAM) {
+            for (long trigram : trigrams(keyword)) {
+                lists.add(byGram.get(trigram));
+            }
+        } else if (keyword != null) {
+            lists.add(byGram.get(gramKey(keyword, 0, keyword.length())));
+        }
+        if (category != null) {
+            lists.add(byCategory.get(categoryKey(category)));
+        }
+        if (difficulty != null) {
+            lists.add(byDifficulty.get(difficulty));
+        }
+        if (lists.isEmpty()) {
+            return null;
+        }
+        if (lists.contains(null)) {
+            return new int[0];  // 조건 하나라도 맞는 단어가 없음
+        }
+
+        // 가장 짧은 목록을 풀어서 후보로 삼고, 나머지 목록과 짧은 순서대로 교집합
+        lists.sort(Comparator.comparingInt(Postings::count));
+        int[] candidates = Postings.decode(lists.get(0));
+        int length = candidates.length;
+        for (int i = 1; i < lists.size() && length > 0; i++) {
+            if (Postings.count(lists.get(i)) > (long) length * MAX_LIST_RATIO) {
+                break;
+            }
+            length = Postings.retainAll(candidates, length, lists.get(i));
+        }
+        return Arrays.copyOf(candidates, length);
+    }
+
+    /**
+     * @return 색인에 있는 글자 조각(한 글자~세 글자) 수
+     */
+    int gramCount() {
+        return byGram.size();
+    }
+
+    /**
+     * 카테고리를 대소문자 구분 없이 찾을 수 있도록 대문자로 바꿉니다.
+     */
+    private static String categoryKey(String category) {
+        return category.toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * 글자열의 서로 다른 trigram들을 구합니다.
+     */
+    static Set<Long> trigrams(String text) {
+        Set<Long> trigrams = new LinkedHashSet<>();
+        for (int i = 0; i + GRAM <= text.length(); i++) {
+            trigrams.add(gramKey(text, i, GRAM));
+        }
+        return trigrams;
+    }
+
+    /**
+     * 단어를 색인할 서로 다른 한 글자, 두 글자, 세 글자 조각들을 구합니다.
+     */
+    private static Set<Long> grams(String text) {
+        Set<Long> grams = new LinkedHashSet<>();
+        for (int n = 1; n <= GRAM; n++) {
+            for (int i = 0; i + n <= text.length(); i++) {
+                grams.add(gramKey(text, i, n));
+            }
+        }
+        return grams;
+    }
+
+    /**
+     * 글자 조각을 대문자로 바꿔 16비트씩 long 하나에 담습니다. 맨 위 16비트에는 조각 길이를 담아 길이가 다른 조각과 구분합니다.
+     */
+    private static long gramKey(String text, int start, int length) {
+        long key = length;
+        for (int j = 0; j < length; j++) {
+            key = (key << 16) | Character.toUpperCase(text.charAt(start + j));
+        }
+        return key << (16 * (GRAM - length));
+    }
+
+    /**
+     * 색인을 만들 때 쓰는 늘어나는 int 배열
+     */
+    private static final class IntList {
+        private int[] values = new int[4];
+        private int size;
+
+        private void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        private byte[] mergeInto(byte[] postings) {
+            return Postings.merge(postings, values, size);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.estelle.hangman.repository;
+
+import com.estelle.hangman.domain.GameEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+// GameEvent 엔티티를 조회하는 리포지토리입니다.
+// 이벤트 저장은 GameEventLog가 JDBC batch로 직접 처리하고, 여기서는 재생(replay)을 위한 조회만 합니다.
+public interface GameEventRepository extends JpaRepository<GameEvent, GameEvent.Key> {
+
+    // 특정 게임의 이벤트 중 주어진 순번까지를 순서대로 찾습니다.
+    List<GameEvent> findByGameIdAndOrdinalLessThanEqualOrderByOrdinal(Long gameId, Integer ordinal);
+}
@@ -47,4 +47,15 @@ public interface GameHistoryRepository extends JpaRepository<GameHistory, Long>
                     "WHERE tca.teacher.id = :teacherId"
     )
     Double calculateClassAverageByTeacherId(@Param("teacherId") Long teacherId);
+
+    // 단어별 게임 수와 성공 수를 집계합니다. [단어 ID, 게임 수, 성공 수]
+    // 서버 시작 시 적응형 출제용 단어 성공률을 한 번에 불러올 때 사용됩니다.
+    @Query("SELECT gh.word.id, COUNT(gh), SUM(CASE WHEN gh.isSuccess = true THEN 1 ELSE 0 END) " +
+            "FROM GameHistory gh GROUP BY gh.word.id")
+    List<Object[]> countResultsByWord();
+
+    // 학생별 게임 수와 성공 수를 집계합니다. [학생 ID, 게임 수, 성공 수]
+    @Query("SELECT gh.student.id, COUNT(gh), SUM(CASE WHEN gh.isSuccess = true THEN 1 ELSE 0 END) " +
+            "FROM GameHistory gh GROUP BY gh.student.id")
+    List<Object[]> countResultsByStudent();
 }
\ No newline at end of file
@@ -0,0 +1,13 @@
+package com.estelle.hangman.repository;
+
+import com.estelle.hangman.domain.ReviewItem;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+// ReviewItem 엔티티를 저장하고 조회하는 리포지토리입니다.
+public interface ReviewItemRepository extends JpaRepository<ReviewItem, ReviewItem.Key> {
+
+    // 학생 한 명의 복습 일정을 모두 찾습니다. (기본 키의 앞부분인 student_id로 조회)
+    List<ReviewItem> findByStudentId(Long studentId);
+}
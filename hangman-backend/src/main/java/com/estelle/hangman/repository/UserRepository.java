@@ -1,9 +1,14 @@
 package com.estelle.hangman.repository;
 
+import com.estelle.hangman.domain.Role;
 import com.estelle.hangman.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
 
 // User 엔티티를 관리하는 리포지토리입니다.
 // 사용자(관리자, 선생님, 학생)의 정보를 데이터베이스에서 관리합니다.
@@ -17,4 +22,9 @@ public interface UserRepository extends JpaRepository<User, Long> {
     // 사용자명이 이미 존재하는지 확인하는 메소드입니다.
     // 새로운 사용자를 등록할 때 중복 확인용으로 사용됩니다.
     boolean existsByUsername(String username);
+
+    // 주어진 사용자 ID 중 해당 역할인 사용자의 ID만 찾는 메소드입니다.
+    // 방치된 게임을 정리할 때 학생의 게임만 골라내는 데 사용되며, 사용자 엔티티는 읽지 않습니다.
+    @Query("SELECT u.id FROM User u WHERE u.id IN :ids AND u.role = :role")
+    Set<Long> findIdsByIdInAndRole(@Param("ids") Collection<Long> ids, @Param("role") Role role);
 }
\ No newline at end of file
@@ -1,6 +1,8 @@
 package com.estelle.hangman.repository;
 
 import com.estelle.hangman.domain.Word;
+import com.estelle.hangman.dto.WordResponse;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -20,40 +22,42 @@ public interface WordRepository extends JpaRepository<Word, Long> {
     // 특정 반의 특정 선생님이 등록한 단어를 조회합니다.
     List<Word> findByCourseIdAndTeacherId(Long courseId, Long teacherId);
 
-    // 카테고리와 난이도로 단어를 검색합니다.
-    // category나 difficulty가 null이면 해당 조건은 무시됩니다.
-    @Query("SELECT w FROM Word w WHERE " +
-            "(:category IS NULL OR w.category = :category) AND " +
-            "(:difficulty IS NULL OR w.difficulty = :difficulty)")
-    List<Word> findByCategoryAndDifficulty(
-            @Param("category") String category,
-            @Param("difficulty") Integer difficulty);
-
     // 모든 카테고리 목록을 가져옵니다.
     // DISTINCT를 사용하여 중복을 제거합니다.
     @Query("SELECT DISTINCT w.category FROM Word w ORDER BY w.category")
     List<String> findAllCategories();
 
-    // 특정 선생님의 특정 카테고리 단어들을 가져옵니다.
-    @Query("SELECT w FROM Word w WHERE w.teacher.id = :teacherId AND w.category = :category")
-    List<Word> findByTeacherIdAndCategory(
-            @Param("teacherId") Long teacherId,
-            @Param("category") String category);
-
-    // 특정 반의 특정 카테고리 단어들을 가져옵니다.
-    @Query("SELECT w FROM Word w WHERE w.course.id = :courseId AND w.category = :category")
-    List<Word> findByCourseIdAndCategory(
-            @Param("courseId") Long courseId,
-            @Param("category") String category);
-
-    // 키워드, 카테고리, 난이도로 단어를 검색합니다.
-    // LOWER 함수를 사용하여 대소문자 구분 없이 검색합니다.
-    @Query("SELECT w FROM Word w WHERE " +
-            "(:keyword IS NULL OR LOWER(w.word) LIKE LOWER(CONCAT('%', :keyword, '%'))) AND " +
+    // 특정 선생님이 등록한 단어의 카테고리별 단어 수와 평균 난이도를 DB에서 집계합니다.
+    // 결과 배열: [카테고리, 단어 수(Long), 평균 난이도(Double)] (카테고리 이름 순)
+    @Query("SELECT w.category, COUNT(w), AVG(w.difficulty) FROM Word w " +
+            "WHERE w.teacher.id = :teacherId AND w.category IS NOT NULL " +
+            "GROUP BY w.category ORDER BY w.category")
+    List<Object[]> summarizeCategoriesByTeacherId(@Param("teacherId") Long teacherId);
+
+    // 단어 응답에 필요한 값(반 이름, 선생님 이름 포함)만 한 번의 조인 쿼리로 가져오는 프로젝션입니다.
+    String WORD_RESPONSE = "SELECT new com.estelle.hangman.dto.WordResponse(" +
+            "w.id, w.word, w.category, w.difficulty, c.name, t.username, w.createdAt, w.updatedAt) " +
+            "FROM Word w JOIN w.course c JOIN w.teacher t ";
+
+    // 조건에 맞는 단어 중 ID가 after보다 큰 단어를 ID 순서로 한 페이지만큼 가져옵니다. (keyset pagination)
+    // OFFSET을 쓰지 않으므로 몇 번째 페이지든 앞 페이지의 행을 건너뛰며 읽지 않습니다.
+    // category, difficulty, courseId, teacherId가 null이면 해당 조건은 무시됩니다.
+    @Query(WORD_RESPONSE + "WHERE w.id > :after AND " +
             "(:category IS NULL OR w.category = :category) AND " +
-            "(:difficulty IS NULL OR w.difficulty = :difficulty)")
-    List<Word> searchWords(
-            @Param("keyword") String keyword,
+            "(:difficulty IS NULL OR w.difficulty = :difficulty) AND " +
+            "(:courseId IS NULL OR c.id = :courseId) AND " +
+            "(:teacherId IS NULL OR t.id = :teacherId) " +
+            "ORDER BY w.id")
+    List<WordResponse> findPage(
             @Param("category") String category,
-            @Param("difficulty") Integer difficulty);
+            @Param("difficulty") Integer difficulty,
+            @Param("courseId") Long courseId,
+            @Param("teacherId") Long teacherId,
+            @Param("after") Long after,
+            Pageable pageable);
+
+    // 주어진 ID의 단어들을 ID 순서로 가져옵니다.
+    // 키워드 검색은 WordPool의 검색 색인으로 한 페이지 분량의 ID를 먼저 구한 뒤 이 쿼리로 응답을 채웁니다.
+    @Query(WORD_RESPONSE + "WHERE w.id IN :ids ORDER BY w.id")
+    List<WordResponse> findResponsesByIdIn(@Param("ids") List<Long> ids);
 }
\ No newline at end of file
@@ -0,0 +1,280 @@
+package com.estelle.hangman.service;
+
+import com.estelle.hangman.domain.Role;
+import com.estelle.hangman.domain.User;
+import com.estelle.hangman.repository.UserRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 관리자가 학교 보고서용으로 단어 전체와 게임 기록 전체를 내려받을 수 있게 하는 서비스입니다.
+ *
+ * - 결과를 List로 모으지 않고, DB에서 한 행을 읽을 때마다 바로 응답에 씁니다.
+ *   (읽기 전용, 앞으로만 읽는 ResultSet을 fetch-size 단위로 받아옴)
+ *   그래서 1만 행이든 5천만 행이든 서버 메모리 사용량이 같습니다.
+ * - 단어 글자, 학생/선생님 이름, 반 이름은 쿼리의 JOIN으로 함께 가져오므로 행마다 조회하지 않습니다.
+ * - 응답 길이를 미리 알 수 없으므로 HTTP chunked 전송으로 나가며, 버퍼가 찰 때마다 클라이언트로 보냅니다.
+ */
+@Slf4j
+@Service
+public class ExportService {
+
+    /**
+     * 내보내기 형식
+     */
+    public enum Format {
+        CSV("text/csv"),
+        NDJSON("application/x-ndjson");
+
+        private final String contentType;
+
+        Format(String contentType) {
+            this.contentType = contentType;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+    }
+
+    private static final String WORDS_SQL =
+            "SELECT w.id, w.word, w.category, w.difficulty, w.course_id, c.name AS course_name, "
+                    + "w.teacher_id, t.username AS teacher_name, w.created_at, w.updated_at "
+                    + "FROM words w JOIN courses c ON c.id = w.course_id JOIN users t ON t.id = w.teacher_id "
+                    + "ORDER BY w.id";
+
+    private static final String HISTORY_SQL =
+            "SELECT h.id, h.student_id, s.username AS student_name, h.word_id, w.word, "
+                    + "h.is_success, h.attempts, " + wrongLetters("h.wrong_letter_mask") + " AS wrong_letters, h.played_at "
+                    + "FROM game_history h JOIN users s ON s.id = h.student_id JOIN words w ON w.id = h.word_id "
+                    + "ORDER BY h.id";
+
+    /**
+     * 응답 쓰기 버퍼 크기 (가득 찰 때마다 chunk 하나로 전송)
+     */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * 틀린 알파벳 비트 컬럼을 "A,B,C" 형태의 문자열로 바꾸는 SQL 식을 만듭니다. (내보내기 형식은 그대로 유지)
+     */
+    private static String wrongLetters(String maskColumn) {
+        StringJoiner letters = new StringJoiner(", ", "CONCAT_WS(',', ", ")");
+        for (int letter = 0; letter < 26; letter++) {
+            letters.add("IF(" + maskColumn + " & " + (1 << letter) + ", '" + (char) ('A' + letter) + "', NULL)");
+        }
+        return letters.toString();
+    }
+
+    /**
+     * 내보내기 전용 JdbcTemplate (fetch-size만 다르게 설정)
+     */
+    private final JdbcTemplate jdbcTemplate;
+    private final UserRepository userRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * @param fetchSize 한 번에 받아올 행 수.
+     *                  MySQL 드라이버는 Integer.MIN_VALUE일 때 전체 결과를 메모리에 올리지 않고 한 행씩 스트리밍합니다.
+     */
+    public ExportService(
+            DataSource dataSource,
+            UserRepository userRepository,
+            ObjectMapper objectMapper,
+            @Value("${export.fetch-size:-2147483648}") int fetchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+        this.userRepository = userRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 모든 단어를 반 이름, 선생님 이름과 함께 내보냅니다. (관리자 전용)
+     */
+    public StreamingResponseBody exportWords(String username, Format format) {
+        validateAdmin(username);
+        return out -> export("words", WORDS_SQL, format, out);
+    }
+
+    /**
+     * 모든 게임 기록을 학생 이름, 단어와 함께 내보냅니다. (관리자 전용)
+     */
+    public StreamingResponseBody exportGameHistory(String username, Format format) {
+        validateAdmin(username);
+        return out -> export("game history", HISTORY_SQL, format, out);
+    }
+
+    private void validateAdmin(String username) {
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new UsernameNotFoundException("User not found"));
+        if (user.getRole() != Role.ADMIN) {
+            throw new AccessDeniedException("Only admins can export data");
+        }
+    }
+
+    private void export(String name, String sql, Format format, OutputStream out) throws IOException {
+        long startTime = System.nanoTime();
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        RowWriter rows = format == Format.CSV ? new CsvRowWriter(writer) : new JsonRowWriter(objectMapper, writer);
+        long count;
+        try {
+            count = jdbcTemplate.query(sql, rs -> {
+                try {
+                    // 제목 줄은 결과의 메타데이터로 먼저 씀 (행이 하나도 없어도 빈 파일이 되지 않음)
+                    rows.start(rs.getMetaData());
+                    long written = 0;
+                    while (rs.next()) {
+                        rows.write(rs);
+                        written++;
+                    }
+                    return written;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);  // 클라이언트가 연결을 끊은 경우 쿼리도 함께 중단
+                }
+            });
+            rows.finish();
+            writer.flush();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        log.info("Exported {} {} rows as {} in {}ms", count, name, format,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+    }
+
+    /**
+     * 결과 행을 한 형식으로 쓰는 Writer
+     */
+    private interface RowWriter {
+        void start(ResultSetMetaData meta) throws SQLException, IOException;
+
+        void write(ResultSet rs) throws SQLException, IOException;
+
+        void finish() throws IOException;
+    }
+
+    /**
+     * 첫 줄에 컬럼 이름을 쓰고, 쉼표/큰따옴표/줄바꿈이 들어 있는 값은 큰따옴표로 감쌉니다.
+     */
+    private static final class CsvRowWriter implements RowWriter {
+        private final Writer writer;
+        private int columns;
+
+        private CsvRowWriter(Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void start(ResultSetMetaData meta) throws SQLException, IOException {
+            columns = meta.getColumnCount();
+            for (int i = 1; i <= columns; i++) {
+                if (i > 1) {
+                    writer.write(',');
+                }
+                writer.write(meta.getColumnLabel(i));
+            }
+            writer.write('\n');
+        }
+
+        @Override
+        public void write(ResultSet rs) throws SQLException, IOException {
+            for (int i = 1; i <= columns; i++) {
+                if (i > 1) {
+                    writer.write(',');
+                }
+                Object value = rs.getObject(i);
+                if (value != null) {
+                    writeValue(value instanceof Timestamp ts ? ts.toLocalDateTime().toString() : value.toString());
+                }
+            }
+            writer.write('\n');
+        }
+
+        private void writeValue(String value) throws IOException {
+            boolean quote = false;
+            for (int i = 0; i < value.length() && !quote; i++) {
+                char c = value.charAt(i);
+                quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+            }
+            if (!quote) {
+                writer.write(value);
+                return;
+            }
+            writer.write('"');
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
+        }
+
+        @Override
+        public void finish() {
+        }
+    }
+
+    /**
+     * 한 줄에 JSON 객체 하나씩 씁니다. (컬럼 이름을 키로 사용)
+     */
+    private static final class JsonRowWriter implements RowWriter {
+        private final JsonGenerator generator;
+        private String[] names;
+
+        private JsonRowWriter(ObjectMapper objectMapper, Writer writer) throws IOException {
+            this.generator = objectMapper.getFactory().createGenerator(writer);
+            this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        }
+
+        @Override
+        public void start(ResultSetMetaData meta) throws SQLException {
+            names = new String[meta.getColumnCount()];
+            for (int i = 0; i < names.length; i++) {
+                names[i] = meta.getColumnLabel(i + 1);
+            }
+        }
+
+        @Override
+        public void write(ResultSet rs) throws SQLException, IOException {
+            generator.writeStartObject();
+            for (int i = 0; i < names.length; i++) {
+                Object value = rs.getObject(i + 1);
+                generator.writeFieldName(names[i]);
+                if (value == null) {
+                    generator.writeNull();
+                } else if (value instanceof Number number) {
+                    generator.writeNumber(number.toString());
+                } else if (value instanceof Boolean bool) {
+                    generator.writeBoolean(bool);
+                } else if (value instanceof Timestamp ts) {
+                    generator.writeString(ts.toLocalDateTime().toString());
+                } else {
+                    generator.writeString(value.toString());
+                }
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void finish() throws IOException {
+            generator.flush();
+        }
+    }
+}
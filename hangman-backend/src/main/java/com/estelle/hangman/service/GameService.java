@@ -2,15 +2,33 @@ package com.estelle.hangman.service;
 
 import com.estelle.hangman.domain.*;
 import com.estelle.hangman.dto.*;
+import com.estelle.hangman.exception.HintUnavailableException;
+import com.estelle.hangman.exception.InvalidGuessException;
+import com.estelle.hangman.game.AdaptiveWordSelector;
+import com.estelle.hangman.game.GameEventLog;
+import com.estelle.hangman.game.GameHistoryWriter;
+import com.estelle.hangman.game.GameIdGenerator;
+import com.estelle.hangman.game.GameJournal;
+import com.estelle.hangman.game.GameLocks;
+import com.estelle.hangman.game.GameSessionStore;
+import com.estelle.hangman.game.HintEngine;
+import com.estelle.hangman.game.ReviewQueueStore;
+import com.estelle.hangman.game.ShuffleBagStore;
+import com.estelle.hangman.game.WordPool;
+import com.estelle.hangman.game.WordPool.PooledWord;
 import com.estelle.hangman.repository.*;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.locks.Lock;
+import java.util.function.BiFunction;
 import java.util.stream.Collectors;
 
 /**
@@ -31,10 +49,72 @@ public class GameService {
     private final GameStatisticsService gameStatisticsService; // 게임 통계 기능 제공 서비스
 
     /**
-     * 현재 진행 중인 게임 세션 정보를 저장하는 Map
-     * Key: 게임 ID (Long), Value: 실제 게임 세션 객체 (GameSession)
+     * 현재 진행 중인 게임 세션을 보관하는 저장소
+     * (동시 접근에 안전하며, 오래 방치된 세션은 백그라운드에서 정리됨)
      */
-    private final Map<Long, GameSession> gameSessions = new HashMap<>();
+    private final GameSessionStore gameSessionStore;
+
+    /**
+     * 서로 겹치지 않는 게임 ID를 발급하는 생성기
+     */
+    private final GameIdGenerator gameIdGenerator;
+
+    /**
+     * 진행 중인 게임의 이벤트를 파일에 남겨 서버 재시작 후에도 복원할 수 있게 하는 저널
+     */
+    private final GameJournal gameJournal;
+
+    /**
+     * 같은 게임에 대한 추측/포기 요청을 한 번에 하나씩 처리하기 위한 잠금
+     * (더블 클릭이나 여러 탭에서 동시에 요청해도 게임 기록이 한 번만 저장되도록 함)
+     */
+    private final GameLocks gameLocks;
+
+    /**
+     * 게임 상태가 바뀔 때 실시간 스트림(SSE)으로 알려주는 서비스
+     */
+    private final GameStreamService gameStreamService;
+
+    /**
+     * 게임 진행 이벤트(시작, 추측, 포기)를 모아서 DB에 저장하는 로그와 재생용 조회 리포지토리
+     */
+    private final GameEventLog gameEventLog;
+    private final GameEventRepository gameEventRepository;
+
+    /**
+     * 게임에 사용할 단어를 메모리에 색인해 둔 저장소 (게임 시작 시 단어 조회 없이 무작위 선택)
+     */
+    private final WordPool wordPool;
+
+    /**
+     * 학생별 단어 주머니 (반의 모든 단어를 한 번씩 본 뒤에야 같은 단어가 다시 나옴)
+     */
+    private final ShuffleBagStore shuffleBagStore;
+
+    /**
+     * 학생의 최근 승률에 맞는 성공률의 단어를 고르는 적응형 출제기 (ADAPTIVE 모드)
+     */
+    private final AdaptiveWordSelector adaptiveWordSelector;
+
+    /**
+     * 학생별 복습 대기열 (틀린 단어를 SM-2 일정에 따라 다시 출제, REVIEW 모드)
+     */
+    private final ReviewQueueStore reviewQueueStore;
+
+    /**
+     * 반의 단어로 다음에 시도할 알파벳을 추천하는 힌트 엔진
+     */
+    private final HintEngine hintEngine;
+
+    /**
+     * 끝난 게임의 기록을 모아서 저장하는 기록기 (응답이 DB 저장을 기다리지 않음)
+     */
+    private final GameHistoryWriter gameHistoryWriter;
+
+    /**
+     * 한 번에 추측할 수 있는 최대 글자 수 (알파벳 개수)
+     */
+    private static final int MAX_BATCH_LETTERS = 26;
 
     /**
      * 새로운 게임을 시작하는 메서드
@@ -49,24 +129,26 @@ public class GameService {
         User user = getUserAndValidate(username);
 
         // 2. 적절한 단어 선택
-        Word word = selectRandomWord(user, request);
+        PooledWord word = selectRandomWord(user, request);
 
         // 3. 새로운 게임 세션 생성
-        GameSession session = new GameSession(word);
+        GameSession session = new GameSession(word.getId(), word.getCourseId(), user.getId(), word.getText());
 
-        // 4. 게임 ID 생성 (임시로 현재 시간 + 랜덤 숫자 조합)
-        Long gameId = generateGameId();
+        // 4. 게임 ID 생성 (동시에 시작한 게임끼리도 겹치지 않음)
+        Long gameId = gameIdGenerator.nextId();
 
-        // 5. Map에 게임 ID와 세션 저장
-        gameSessions.put(gameId, session);
+        // 5. 세션 저장소에 게임 ID와 세션 저장 후 저널에 시작 기록
+        gameSessionStore.put(gameId, session);
+        gameJournal.recordStart(gameId, word.getId(), user.getId());
+        gameEventLog.recordStart(gameId, word.getId(), user.getId(), word.getText());
 
         // 6. 사용자에게 반환할 게임 시작 응답 생성
         return GameStartResponse.builder()
                 .gameId(gameId)                                      // 생성된 게임 ID
-                .wordLength(word.getWord().length())                 // 단어 길이
+                .wordLength(word.getText().length())                 // 단어 길이
                 .maskedWord(session.getMaskedWord())                 // 현재 가려진 단어 예: "_ _ _"
                 .maxAttempts(session.getMaxAttempts())               // 최대 시도 횟수
-                .remainingAttempts(session.getMaxAttempts() - session.getWrongLetters().size()) // 남은 시도 횟수
+                .remainingAttempts(session.getMaxAttempts() - session.getWrongCount()) // 남은 시도 횟수
                 .build();
     }
 
@@ -79,27 +161,146 @@ public class GameService {
      */
     @Transactional // 글자 추측 시 게임 상태(DB로 기록) 변경 가능성이 있으므로 트랜잭션 적용
     public GameGuessResponse guessLetter(String username, GameGuessRequest request) {
-        // 1. 사용자가 이 게임에 접근할 권한이 있는지 확인
-        validateGameAccess(username, request.getGameId());
+        return guessLetter(username, request, (session, versionBefore) -> buildGameGuessResponse(session));
+    }
 
-        // 2. 게임 세션 가져오기
-        GameSession session = getGameSession(request.getGameId());
+    /**
+     * 글자 추측을 처리하고 바뀐 부분만 응답하는 메서드 (compact 모드)
+     * 요청의 knownVersion이 추측 직전 버전과 같으면 이번 추측으로 바뀐 부분만,
+     * 다르면(중간 상태를 놓친 경우) 전체 상태를 보냅니다.
+     *
+     * @param username 게임에 참여하는 사용자 이름
+     * @param request  사용자가 추측한 글자와 마지막으로 받은 버전을 담은 DTO
+     * @return GameGuessDeltaResponse 바뀐 부분만 담은 응답 DTO
+     */
+    @Transactional
+    public GameGuessDeltaResponse guessLetterDelta(String username, GameGuessRequest request) {
+        return guessLetter(username, request,
+                (session, versionBefore) -> buildGameGuessDelta(session, request, versionBefore));
+    }
 
-        // 3. 이미 끝난 게임인지 확인 (게임이 이미 complete 상태이면 예외)
-        if (session.isComplete()) {
-            throw new IllegalStateException("Game is already complete");
+    /**
+     * 글자 추측의 공통 처리 (권한 확인, 잠금, 추측, 기록 저장) 후 응답 생성은 전달받은 함수에 맡깁니다.
+     *
+     * @param responseBuilder 게임 세션과 추측 직전 버전으로 응답을 만드는 함수 (잠금 안에서 호출됨)
+     */
+    private <T> T guessLetter(String username, GameGuessRequest request,
+                              BiFunction<GameSession, Integer, T> responseBuilder) {
+        // 1. 알파벳이 아닌 글자(빠진 글자 포함)는 게임에 적용하지 않고 잘못된 요청으로 응답
+        if (!GameSession.isLetter(request.getLetter())) {
+            throw new InvalidGuessException("Invalid letter");
         }
 
-        // 4. 글자 추측 로직 수행
-        session.guessLetter(request.getLetter());
+        // 2. 사용자가 이 게임에 접근할 권한이 있는지 확인
+        User user = validateGameAccess(username, request.getGameId());
+
+        // 3. 같은 게임에 대한 다른 요청이 끝날 때까지 기다림 (다른 게임의 요청은 기다리지 않음)
+        Lock lock = gameLocks.lockFor(request.getGameId());
+        lock.lock();
+        try {
+            // 4. 게임 세션 가져오기
+            GameSession session = getGameSession(request.getGameId());
 
-        // 5. 글자 추측 후 게임이 끝났다면(성공 또는 실패) 게임 기록을 DB에 저장
-        if (session.isComplete()) {
-            saveGameHistory(username, session);
+            // 5. 이미 끝난 게임인지 확인 (게임이 이미 complete 상태이면 예외)
+            if (session.isComplete()) {
+                throw new IllegalStateException("Game is already complete");
+            }
+
+            // 6. 글자 추측 로직 수행 (처음 시도한 글자라면 저널에 기록하고 스트림에 알림)
+            int versionBefore = session.getVersion();
+            if (session.guessLetter(request.getLetter())) {
+                gameJournal.recordGuess(request.getGameId(), request.getLetter());
+                gameEventLog.recordGuess(request.getGameId(), session.getVersion(),
+                        request.getLetter(), session.hasLetter(request.getLetter()));
+                gameStreamService.publish(request.getGameId(), session);
+            }
+
+            // 7. 글자 추측 후 게임이 끝났다면(성공 또는 실패) 게임 기록을 저장 대기열에 넣음
+            if (session.isComplete()) {
+                saveGameHistory(session, user);
+                gameJournal.recordEnd(request.getGameId());
+            }
+
+            // 8. 현재 게임 상태 응답 생성
+            return responseBuilder.apply(session, versionBefore);
+        } finally {
+            lock.unlock();
         }
+    }
 
-        // 6. 현재 게임 상태 응답 생성
-        return buildGameGuessResponse(session);
+    /**
+     * 여러 글자를 순서대로 한 번에 추측하는 메서드
+     * 권한 확인과 응답 생성은 글자마다가 아니라 요청마다 한 번만 수행됩니다.
+     *
+     * @param username 게임에 참여하는 사용자 이름
+     * @param gameId   게임 ID
+     * @param request  추측할 글자 목록을 담은 DTO
+     * @return GameBatchGuessResponse 맞힌 글자 목록과 최종 게임 상태를 담은 응답 DTO
+     */
+    @Transactional
+    public GameBatchGuessResponse guessLetters(String username, Long gameId, GameBatchGuessRequest request) {
+        // 1. 글자 목록 검증 (하나라도 잘못된 글자가 있으면 아무것도 적용하지 않음)
+        List<Character> letters = request.getLetters();
+        if (letters == null || letters.isEmpty()) {
+            throw new InvalidGuessException("No letters to guess");
+        }
+        if (letters.size() > MAX_BATCH_LETTERS) {
+            throw new InvalidGuessException("Too many letters");
+        }
+        for (Character letter : letters) {
+            if (letter == null || !GameSession.isLetter(letter)) {
+                throw new InvalidGuessException("Invalid letter");
+            }
+        }
+
+        // 2. 사용자가 이 게임에 접근할 권한이 있는지 확인 (요청마다 한 번)
+        User user = validateGameAccess(username, gameId);
+
+        // 3. 같은 게임에 대한 다른 요청과 겹치지 않도록 잠금 (목록 전체를 한 번에 적용)
+        Lock lock = gameLocks.lockFor(gameId);
+        lock.lock();
+        try {
+            GameSession session = getGameSession(gameId);
+            if (session.isComplete()) {
+                throw new IllegalStateException("Game is already complete");
+            }
+
+            // 4. 보낸 순서대로 적용하다가 게임이 끝나면 멈춤
+            int applied = 0;
+            List<Character> hitLetters = new ArrayList<>();
+            for (char letter : letters) {
+                if (session.isComplete()) {
+                    break;
+                }
+                applied++;
+                int wrongBefore = session.getWrongCount();
+                if (session.guessLetter(letter)) {
+                    gameJournal.recordGuess(gameId, letter);
+                    gameEventLog.recordGuess(gameId, session.getVersion(), letter, session.hasLetter(letter));
+                    if (session.getWrongCount() == wrongBefore) {
+                        hitLetters.add(Character.toUpperCase(letter));
+                    }
+                }
+            }
+
+            // 5. 게임이 끝났다면 기록 저장, 상태가 바뀌었다면 스트림에 한 번만 알림
+            if (session.isComplete()) {
+                saveGameHistory(session, user);
+                gameJournal.recordEnd(gameId);
+            }
+            if (applied > 0) {
+                gameStreamService.publish(gameId, session);
+            }
+
+            // 6. 최종 상태 한 번만 만들어 응답
+            return GameBatchGuessResponse.builder()
+                    .appliedCount(applied)                              // 적용된 글자 수
+                    .hitLetters(hitLetters)                             // 맞힌 글자들
+                    .result(buildGameGuessResponse(session))            // 최종 게임 상태
+                    .build();
+        } finally {
+            lock.unlock();
+        }
     }
 
     /**
@@ -220,6 +421,123 @@ public class GameService {
         return buildGameGuessResponse(session);
     }
 
+    /**
+     * 진행 중인 게임에서 다음에 시도할 알파벳을 추천하는 메서드
+     * 반의 단어 중 지금까지의 진행 상태와 맞는 단어들에 가장 많이 들어 있는 알파벳을 알려주며, 정답은 알려주지 않습니다.
+     *
+     * @param username 게임에 접근하려는 사용자 이름
+     * @param gameId   힌트를 받을 게임의 ID
+     * @return GameHintResponse 추천 알파벳과 그 알파벳이 단어에 들어 있을 확률
+     */
+    public GameHintResponse getHint(String username, Long gameId) {
+        // 1. 해당 게임에 대한 접근 권한 검증
+        validateGameAccess(username, gameId);
+
+        // 2. 추측과 동시에 계산되지 않도록 잠금 안에서 현재 상태로 추천
+        Lock lock = gameLocks.lockFor(gameId);
+        lock.lock();
+        try {
+            GameSession session = getGameSession(gameId);
+            if (session.isComplete()) {
+                throw new IllegalStateException("Game is already complete");
+            }
+
+            HintEngine.Suggestion suggestion = hintEngine.suggest(session);
+            if (suggestion == null) {
+                throw new HintUnavailableException("No hint available");
+            }
+            return GameHintResponse.builder()
+                    .gameId(gameId)
+                    .letter(suggestion.letter())
+                    .probability(suggestion.probability())
+                    .build();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 게임 상태를 실시간으로 받는 스트림(SSE)을 여는 메서드
+     * 권한 확인은 연결할 때 한 번만 하고, 이후에는 상태가 바뀔 때만 이벤트가 전달됩니다.
+     *
+     * @param username 게임에 접근하려는 사용자 이름
+     * @param gameId   구독할 게임의 ID
+     * @return SseEmitter 현재 상태를 첫 이벤트로 보내는 스트림
+     */
+    public SseEmitter openGameStream(String username, Long gameId) {
+        // 1. 해당 게임에 대한 접근 권한 검증
+        validateGameAccess(username, gameId);
+
+        // 2. 구독 도중 들어온 추측이 빠지거나 순서가 뒤바뀌지 않도록 잠금 안에서 구독
+        Lock lock = gameLocks.lockFor(gameId);
+        lock.lock();
+        try {
+            return gameStreamService.subscribe(gameId, getGameSession(gameId));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 저장된 게임 이벤트를 다시 적용하여 특정 시점의 게임 상태를 만드는 메서드
+     * 끝난 게임도 추측 순서대로 되돌려 볼 수 있습니다.
+     *
+     * @param username 조회를 요청한 사용자 이름
+     * @param gameId   게임 ID
+     * @param upTo     이 순번의 추측까지 적용 (null이면 저장된 모든 추측 적용)
+     * @return GameGuessResponse 해당 시점의 게임 상태 (version = 적용된 추측 수)
+     */
+    public GameGuessResponse replayGame(String username, Long gameId, Integer upTo) {
+        // 1. 사용자 검증
+        User user = getUserAndValidate(username);
+
+        // 2. 시작 이벤트부터 upTo 순번까지의 이벤트를 순서대로 조회
+        List<GameEvent> events = gameEventRepository.findByGameIdAndOrdinalLessThanEqualOrderByOrdinal(
+                gameId, upTo != null ? upTo : Integer.MAX_VALUE);
+        if (events.isEmpty() || events.get(0).getOrdinal() != 0) {
+            throw new IllegalArgumentException("Game events not found");
+        }
+        GameEvent start = events.get(0);
+
+        // 3. 학생은 자신의 게임만, 선생님은 자신의 학생 게임만 볼 수 있음
+        if (user.getRole() == Role.USER) {
+            if (!user.getId().equals(start.getStudentId())) {
+                throw new AccessDeniedException("Not authorized to access this game");
+            }
+        } else {
+            validateTeacherAccess(user, start.getStudentId());
+        }
+
+        // 4. 게임 당시의 단어로 새 세션을 만들고 이벤트를 순서대로 다시 적용 (글자가 없는 이벤트는 포기)
+        GameSession session = new GameSession(start.getWordId(), null, start.getStudentId(), wordTextOf(start));
+        for (GameEvent event : events.subList(1, events.size())) {
+            if (event.getLetter() == null) {
+                session.forfeit();
+            } else {
+                session.guessLetter(event.getLetter().charAt(0));
+            }
+        }
+
+        // 5. 해당 시점의 게임 상태 응답 생성
+        return buildGameGuessResponse(session);
+    }
+
+    /**
+     * 시작 이벤트에 저장된 게임 당시의 단어를 반환하는 private 메서드
+     * 단어를 함께 저장하기 전에 기록된 시작 이벤트라면 현재 단어를 조회합니다.
+     *
+     * @param start 게임의 시작 이벤트
+     * @return 게임 단어
+     */
+    private String wordTextOf(GameEvent start) {
+        if (start.getWordText() != null) {
+            return start.getWordText();
+        }
+        return wordRepository.findById(start.getWordId())
+                .map(Word::getWord)
+                .orElseThrow(() -> new IllegalArgumentException("Word not found"));
+    }
+
     /**
      * 게임을 포기(중도 종료)하는 메서드
      *
@@ -230,19 +548,29 @@ public class GameService {
     @Transactional
     public GameGuessResponse forfeitGame(String username, Long gameId) {
         // 1. 게임 접근 권한 검증
-        validateGameAccess(username, gameId);
-
-        // 2. 게임 세션 가져오기
-        GameSession session = getGameSession(gameId);
+        User user = validateGameAccess(username, gameId);
+
+        // 2. 같은 게임의 추측 요청과 겹치지 않도록 잠금
+        Lock lock = gameLocks.lockFor(gameId);
+        lock.lock();
+        try {
+            // 3. 게임 세션 가져오기
+            GameSession session = getGameSession(gameId);
+
+            // 4. 아직 게임이 끝나지 않았다면 포기 처리
+            if (!session.isComplete()) {
+                session.forfeit();        // 포기 시도
+                gameEventLog.recordForfeit(gameId, session.getVersion()); // 재생할 수 있도록 포기 이벤트 기록
+                saveGameHistory(session, user); // 게임 기록 저장
+                gameJournal.recordEnd(gameId);      // 저널에 종료 기록
+                gameStreamService.publish(gameId, session); // 스트림에 알림
+            }
 
-        // 3. 아직 게임이 끝나지 않았다면 포기 처리
-        if (!session.isComplete()) {
-            session.forfeit();        // 포기 시도
-            saveGameHistory(username, session); // 게임 기록 저장
+            // 5. 최종 게임 상태 반환
+            return buildGameGuessResponse(session);
+        } finally {
+            lock.unlock();
         }
-
-        // 4. 최종 게임 상태 반환
-        return buildGameGuessResponse(session);
     }
 
     /**
@@ -283,21 +611,32 @@ public class GameService {
      *
      * @param user    현재 게임을 시작하는 사용자
      * @param request 게임 시작 시 함께 들어온 요청 정보
-     * @return Word 선택된 단어 엔티티
+     * @return PooledWord 선택된 단어 (DB 조회 없이 단어 색인에서 선택)
      */
-    private Word selectRandomWord(User user, GameStartRequest request) {
-        // 1. 사용자 역할과 요청 정보를 바탕으로 가져올 단어 목록 결정
-        List<Word> availableWords;
+    private PooledWord selectRandomWord(User user, GameStartRequest request) {
+        // 1. 사용자 역할과 요청 정보를 바탕으로 단어 색인에서 랜덤하게 하나를 선택
+        PooledWord word;
 
         if (user.getRole() == Role.ADMIN && request != null && request.getTeacherId() != null) {
-            // 관리자: 특정 teacherId가 주어지면, 해당 선생님의 단어만 조회
-            availableWords = wordRepository.findByTeacherId(request.getTeacherId());
+            // 관리자: 특정 teacherId가 주어지면, 해당 선생님의 단어 중에서 선택
+            word = wordPool.randomByTeacher(request.getTeacherId());
         } else if (user.getRole() == Role.MANAGER && request != null && request.getCourseId() != null) {
-            // 선생님: 특정 courseId가 주어지면, 해당 반의 단어만 조회
-            availableWords = wordRepository.findByCourseId(request.getCourseId());
+            // 선생님: 특정 courseId가 주어지면, 해당 반의 단어 중에서 선택
+            word = wordPool.randomByCourse(request.getCourseId());
+        } else if (user.getRole() == Role.USER && request != null && request.getMode() == GameMode.ADAPTIVE) {
+            // 학생(적응형): 자신의 반과 선생님의 단어 중 최근 승률에 맞는 난이도의 단어를 선택
+            word = adaptiveWordSelector.select(user.getId(),
+                    user.getCourse().getId(), user.getTeacher().getId());
+        } else if (user.getRole() == Role.USER && request != null && request.getMode() == GameMode.REVIEW) {
+            // 학생(복습): 자신이 틀렸던 단어 중 오늘 복습할 단어를 선택
+            word = reviewQueueStore.nextDue(user.getId(),
+                    user.getCourse().getId(), user.getTeacher().getId());
+            if (word == null) {
+                throw new IllegalStateException("No words due for review");
+            }
         } else if (user.getRole() == Role.USER) {
-            // 학생: 자신의 반과 선생님의 단어만 조회
-            availableWords = wordRepository.findByCourseIdAndTeacherId(
+            // 학생: 자신의 반과 선생님의 단어 중 이번 바퀴에서 아직 보지 않은 단어를 선택
+            word = shuffleBagStore.next(user.getId(),
                     user.getCourse().getId(), user.getTeacher().getId());
         } else {
             // 그 외에는 적절한 요청이 아님
@@ -305,13 +644,10 @@ public class GameService {
         }
 
         // 2. 사용 가능한 단어가 없으면 예외
-        if (availableWords.isEmpty()) {
+        if (word == null) {
             throw new IllegalStateException("No words available");
         }
-
-        // 3. 랜덤하게 하나를 선택
-        Random random = new Random();
-        return availableWords.get(random.nextInt(availableWords.size()));
+        return word;
     }
 
     /**
@@ -319,8 +655,9 @@ public class GameService {
      *
      * @param username 게임에 접근하려는 사용자 이름
      * @param gameId   접근하려는 게임 ID
+     * @return User 게임에 접근하는 사용자 엔티티
      */
-    private void validateGameAccess(String username, Long gameId) {
+    private User validateGameAccess(String username, Long gameId) {
         // 1. 사용자 엔티티 조회
         User user = getUserAndValidate(username);
 
@@ -328,12 +665,14 @@ public class GameService {
         GameSession session = getGameSession(gameId);
 
         // 3. 학생(USER)인 경우, 자신의 반에 속한 단어인지 확인
-        //    (여기서는 게임 세션에 담긴 word의 course와 사용자의 course가 같아야 접근 가능)
-        if (user.getRole() == Role.USER && !session.getWord().getCourse().equals(user.getCourse())) {
+        //    (게임 세션에 담긴 단어의 반 ID와 사용자의 반 ID가 같아야 접근 가능)
+        if (user.getRole() == Role.USER
+                && (user.getCourse() == null || !user.getCourse().getId().equals(session.getCourseId()))) {
             throw new AccessDeniedException("Not authorized to access this game");
         }
         // 4. 선생님(MANAGER)이나 관리자(ADMIN)는 여기서 별도 검증 로직을 추가하거나
         //    필요 시 이미 다른 곳에서 검증을 수행할 수 있음
+        return user;
     }
 
     /**
@@ -343,8 +682,8 @@ public class GameService {
      * @return GameSession 해당 ID에 대응하는 게임 세션
      */
     private GameSession getGameSession(Long gameId) {
-        // 1. gameSessions에서 gameId에 해당하는 세션을 꺼냄
-        GameSession session = gameSessions.get(gameId);
+        // 1. 세션 저장소에서 gameId에 해당하는 세션을 꺼냄
+        GameSession session = gameSessionStore.get(gameId);
 
         // 2. 세션이 존재하지 않으면 예외
         if (session == null) {
@@ -401,39 +740,33 @@ public class GameService {
     }
 
     /**
-     * 임의의 게임 ID를 생성하는 private 메서드
+     * 끝난 게임의 기록을 저장 대기열에 넣는 private 메서드
+     * 실제 DB 저장은 GameHistoryWriter의 기록 스레드가 여러 게임을 모아서 하므로, 응답이 저장을 기다리지 않습니다.
      *
-     * @return Long 생성된 게임 ID
+     * @param session   게임 세션 객체 (학생 ID와 단어 ID를 담고 있으므로 사용자를 다시 조회하지 않음)
+     * @param user      게임을 진행한 사용자 (학생의 게임만 적응형 출제와 복습 대기열에 반영)
      */
-    private Long generateGameId() {
-        // 현재 시간을 밀리초 단위로 가져오고, 거기에 0~999 사이 랜덤 숫자를 더해 유니크한 ID 생성
-        return System.currentTimeMillis() + new Random().nextInt(1000);
-    }
+    private void saveGameHistory(GameSession session, User user) {
+        // 1. 게임 기록을 저장 대기열에 넣음
+        gameHistoryWriter.submit(new GameHistoryWriter.Entry(
+                session.getStudentId(),                       // 게임을 진행한 학생
+                session.getWordId(),                          // 사용된 단어
+                session.isSuccess(),                          // 게임 성공 여부
+                session.getWrongCount(),                      // 틀린 시도 횟수
+                session.getWrongMask(),                       // 틀린 글자들의 비트, 예: "A,B,C" -> 0b111
+                LocalDateTime.now()));                        // 게임이 끝난 시각
+
+        // 2. 선생님/관리자의 시험 게임은 단어 성공률과 복습 대기열에 반영하지 않음
+        if (user.getRole() != Role.USER) {
+            return;
+        }
 
-    /**
-     * 게임 기록을 DB에 저장하는 private 메서드
-     *
-     * @param username  게임을 진행한 사용자 이름
-     * @param session   게임 세션 객체
-     */
-    @Transactional
-    protected void saveGameHistory(String username, GameSession session) {
-        // 1. 사용자 조회
-        User user = getUserAndValidate(username);
+        // 3. 적응형 출제에 쓰는 단어 성공률과 학생 승률 갱신
+        adaptiveWordSelector.recordResult(session.getStudentId(), session.getWordId(), session.isSuccess());
 
-        // 2. GameHistory 엔티티 생성 및 값 설정
-        GameHistory history = new GameHistory();
-        history.setStudent(user);                          // 게임을 진행한 학생
-        history.setWord(session.getWord());                // 사용된 단어
-        history.setIsSuccess(session.isSuccess());         // 게임 성공 여부
-        history.setAttempts(session.getWrongLetters().size()); // 틀린 시도 횟수
-        history.setWrongLetters(String.join(",",
-                session.getWrongLetters().stream()
-                        .map(String::valueOf)
-                        .collect(Collectors.toList())));   // 틀린 글자들을 문자열로 변환, 예: "A,B,C"
-
-        // 3. DB에 저장
-        gameHistoryRepository.save(history);
+        // 4. 틀린 단어는 복습 대기열에 추가하고, 복습 중인 단어는 다음 복습 날짜를 갱신
+        reviewQueueStore.recordResult(session.getStudentId(), session.getWordId(), session.isSuccess(),
+                session.getWrongCount());
     }
 
     /**
@@ -444,7 +777,7 @@ public class GameService {
      */
     private GameGuessResponse buildGameGuessResponse(GameSession session) {
         // 남은 시도 횟수 = 최대 시도 횟수 - (틀린 글자 개수)
-        int remainingAttempts = session.getMaxAttempts() - session.getWrongLetters().size();
+        int remainingAttempts = session.getMaxAttempts() - session.getWrongCount();
 
         // GameGuessResponse 객체 생성 후 반환
         return GameGuessResponse.builder()
@@ -454,9 +787,52 @@ public class GameService {
                 .wrongLetters(new ArrayList<>(session.getWrongLetters()))     // 틀린 글자 목록
                 .isComplete(session.isComplete())                    // 게임 종료 여부
                 .isSuccess(session.isSuccess())                      // 게임 성공 여부
+                .version(session.getVersion())                       // 게임 상태 버전
                 .build();
     }
 
+    /**
+     * 추측 결과에서 바뀐 부분만 담은 GameGuessDeltaResponse DTO를 빌드하는 private 메서드
+     *
+     * @param session       현재 게임 세션
+     * @param request       추측 요청 (추측한 글자, 클라이언트가 마지막으로 받은 버전)
+     * @param versionBefore 이번 추측 직전의 게임 상태 버전
+     * @return GameGuessDeltaResponse 변경분 응답 DTO
+     */
+    private GameGuessDeltaResponse buildGameGuessDelta(GameSession session, GameGuessRequest request, int versionBefore) {
+        int version = session.getVersion();
+        GameGuessDeltaResponse.GameGuessDeltaResponseBuilder builder = GameGuessDeltaResponse.builder()
+                .version(version)
+                .remainingAttempts(session.getMaxAttempts() - session.getWrongCount())
+                .isComplete(session.isComplete())
+                .isSuccess(session.isSuccess());
+
+        // 1. 클라이언트가 추측 직전 상태를 모른다면 전체 상태를 보냄
+        Integer knownVersion = request.getKnownVersion();
+        if (knownVersion == null || knownVersion != versionBefore) {
+            StringBuilder wrongLetters = new StringBuilder();
+            for (char c : session.getWrongLetters()) {
+                wrongLetters.append(c);
+            }
+            return builder.full(true)
+                    .maskedWord(session.getMaskedWord())
+                    .wrongLetters(wrongLetters.toString())
+                    .build();
+        }
+
+        // 2. 이번 추측으로 상태가 바뀌었다면 그 글자의 결과만 보냄 (중복 추측이면 바뀐 것 없음)
+        if (version != versionBefore) {
+            char letter = Character.toUpperCase(request.getLetter());
+            int[] positions = session.getLetterPositions(letter);
+            if (positions.length > 0) {
+                builder.revealedLetter(letter).revealedPositions(positions);
+            } else {
+                builder.wrongLetter(letter);
+            }
+        }
+        return builder.build();
+    }
+
     /**
      * 사용자 역할에 따라 조회해야 할 게임 기록을 가져오는 private 메서드
      *
@@ -212,30 +212,33 @@ public class GameStatisticsService {
      * @param histories 게임 기록 리스트
      * @return 콤마로 구분된 알파벳 문자열 (예: "A,B,C")
      */
-    private String findMostMissedLetters(List<GameHistory> histories) {
-        // 알파벳별 누적 틀린 횟수를 저장할 Map
-        Map<Character, Integer> missCount = new HashMap<>();
-
-        // 1. 각 기록의 wrongLetters 필드를 가져옴 (예: "A,B,C")
-        histories.stream()
-                .map(GameHistory::getWrongLetters)
-                .filter(Objects::nonNull) // null 체크
-                .forEach(letters -> {
-                    // 2. 콤마로 스플릿하여 개별 알파벳 처리
-                    for (String letter : letters.split(",")) {
-                        if (!letter.isEmpty()) {
-                            // 3. Map에 카운트 누적
-                            missCount.merge(letter.charAt(0), 1, Integer::sum);
-                        }
-                    }
-                });
-
-        // 4. missCount Map을 값(틀린 횟수) 기준으로 내림차순 정렬, 상위 3개 추출
-        return missCount.entrySet().stream()
-                .sorted((e1, e2) -> e2.getValue().compareTo(e1.getValue()))  // 값 기준 내림차순
-                .limit(3)
-                .map(e -> String.valueOf(e.getKey())) // Character -> String
-                .collect(Collectors.joining(","));
+    static String findMostMissedLetters(List<GameHistory> histories) {
+        // 알파벳별 누적 틀린 횟수 (A = 0번)
+        int[] missCount = new int[26];
+
+        // 1. 각 기록의 틀린 알파벳 비트에서 켜진 비트마다 카운트 누적 (문자열을 나누지 않음)
+        for (GameHistory history : histories) {
+            for (int bits = history.getWrongLetterMask(); bits != 0; bits &= bits - 1) {
+                missCount[Integer.numberOfTrailingZeros(bits)]++;
+            }
+        }
+
+        // 2. 틀린 횟수가 가장 많은 알파벳을 3번 골라 상위 3개 추출 (같다면 알파벳 순서가 앞선 것)
+        StringJoiner missed = new StringJoiner(",");
+        for (int rank = 0; rank < 3; rank++) {
+            int best = -1;
+            for (int letter = 0; letter < missCount.length; letter++) {
+                if (missCount[letter] > 0 && (best < 0 || missCount[letter] > missCount[best])) {
+                    best = letter;
+                }
+            }
+            if (best < 0) {
+                break;
+            }
+            missed.add(String.valueOf((char) ('A' + best)));
+            missCount[best] = 0;  // 다음 순위에서 제외
+        }
+        return missed.toString();
     }
 
     /**
@@ -0,0 +1,264 @@
+package com.estelle.hangman.service;
+
+import com.estelle.hangman.domain.GameSession;
+import com.estelle.hangman.dto.GameStateEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 진행 중인 게임의 상태 변화를 Server-Sent Events로 보내는 서비스입니다.
+ * 프론트엔드가 게임 상태를 주기적으로 조회(polling)하는 대신, 추측/완료/포기로 상태가 바뀔 때만 전달받습니다.
+ *
+ * - 연결은 서블릿 비동기 처리(SseEmitter)로 유지되므로 연결마다 스레드를 잡아두지 않습니다.
+ * - 실제 전송은 작은 공용 스레드 풀이 맡고, 연결마다 크기가 정해진 버퍼를 둡니다.
+ *   버퍼가 가득 차면 가장 오래된 이벤트를 버립니다. (이벤트마다 전체 상태를 담고 있어 최신 것만 있으면 됨)
+ * - 중간 장비가 연결을 끊지 않도록 주기적으로 heartbeat 주석을 보냅니다.
+ *   heartbeat는 버퍼가 비어 있을 때만 넣으므로, 느린 클라이언트에서도 마지막 상태(완료/포기) 이벤트를 밀어내지 않습니다.
+ */
+@Slf4j
+@Service
+public class GameStreamService {
+
+    /**
+     * 버퍼에 넣는 heartbeat 표시
+     */
+    private static final Object HEARTBEAT = new Object();
+
+    /**
+     * 게임 ID를 Key로, 그 게임을 구독 중인 연결들을 Value로 저장하는 Map
+     */
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+
+    /**
+     * 현재 열려 있는 연결 수
+     */
+    private final AtomicInteger connections = new AtomicInteger();
+
+    /**
+     * 모든 연결이 함께 쓰는 전송 스레드 풀
+     */
+    private final ExecutorService sender;
+
+    private final int bufferSize;
+    private final long timeoutMillis;
+    private final int maxConnections;
+
+    public GameStreamService(
+            @Value("${game.stream.buffer-size:16}") int bufferSize,
+            @Value("${game.stream.timeout-minutes:30}") long timeoutMinutes,
+            @Value("${game.stream.max-connections:10000}") int maxConnections,
+            @Value("${game.stream.sender-threads:2}") int senderThreads) {
+        this.bufferSize = bufferSize;
+        this.timeoutMillis = TimeUnit.MINUTES.toMillis(timeoutMinutes);
+        this.maxConnections = maxConnections;
+        this.sender = Executors.newFixedThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "game-stream-sender");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 게임 상태 스트림을 엽니다. 현재 상태를 첫 이벤트로 보냅니다.
+     * 이후 이벤트와 순서가 뒤섞이지 않도록 호출하는 쪽에서 게임 잠금을 잡은 상태로 호출해야 합니다.
+     *
+     * @param gameId  게임 ID
+     * @param session 현재 게임 세션
+     * @return 응답으로 반환할 SseEmitter
+     */
+    public SseEmitter subscribe(Long gameId, GameSession session) {
+        if (connections.incrementAndGet() > maxConnections) {
+            connections.decrementAndGet();
+            throw new IllegalStateException("Too many open game streams");
+        }
+
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(gameId, emitter);
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> unsubscribe(subscriber));
+
+        subscribers.computeIfAbsent(gameId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        subscriber.offer(toEvent(session));
+        return emitter;
+    }
+
+    /**
+     * 게임 상태가 바뀌었음을 구독 중인 연결들에 알립니다.
+     * 버퍼에 넣기만 하므로 요청 스레드는 전송을 기다리지 않습니다.
+     *
+     * @param gameId  게임 ID
+     * @param session 바뀐 게임 세션
+     */
+    public void publish(Long gameId, GameSession session) {
+        Set<Subscriber> gameSubscribers = subscribers.get(gameId);
+        if (gameSubscribers == null || gameSubscribers.isEmpty()) {
+            return;  // 구독자가 없으면 이벤트도 만들지 않음
+        }
+        GameStateEvent event = toEvent(session);
+        for (Subscriber subscriber : gameSubscribers) {
+            subscriber.offer(event);
+        }
+    }
+
+    /**
+     * 열려 있는 모든 연결에 heartbeat를 보냅니다.
+     */
+    @Scheduled(fixedDelayString = "${game.stream.heartbeat-interval-ms:15000}")
+    public void sendHeartbeats() {
+        for (Set<Subscriber> gameSubscribers : subscribers.values()) {
+            for (Subscriber subscriber : gameSubscribers) {
+                subscriber.offerHeartbeat();
+            }
+        }
+    }
+
+    /**
+     * @return 현재 열려 있는 연결 수
+     */
+    public int connectionCount() {
+        return connections.get();
+    }
+
+    /**
+     * 서버 종료 시 열려 있는 연결을 모두 닫습니다.
+     */
+    @PreDestroy
+    public void shutdown() {
+        for (Set<Subscriber> gameSubscribers : subscribers.values()) {
+            for (Subscriber subscriber : gameSubscribers) {
+                subscriber.emitter.complete();
+            }
+        }
+        sender.shutdown();
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        if (!subscriber.closed.compareAndSet(false, true)) {
+            return;
+        }
+        connections.decrementAndGet();
+        subscribers.computeIfPresent(subscriber.gameId, (id, set) -> {
+            set.remove(subscriber);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    /**
+     * 게임 세션을 스트림으로 보낼 간단한 상태 정보로 변환합니다.
+     */
+    private static GameStateEvent toEvent(GameSession session) {
+        StringBuilder wrongLetters = new StringBuilder(session.getWrongCount());
+        for (int bits = session.getWrongMask(); bits != 0; bits &= bits - 1) {
+            wrongLetters.append((char) ('A' + Integer.numberOfTrailingZeros(bits)));
+        }
+        return GameStateEvent.builder()
+                .maskedWord(session.getMaskedWord())
+                .remainingAttempts(session.getMaxAttempts() - session.getWrongCount())
+                .wrongLetters(wrongLetters.toString())
+                .isComplete(session.isComplete())
+                .isSuccess(session.isSuccess())
+                .build();
+    }
+
+    /**
+     * 연결 하나와 그 연결의 전송 대기 버퍼
+     * 한 연결의 전송은 한 번에 하나의 스레드만 수행하도록 scheduled 플래그로 보호합니다.
+     */
+    private final class Subscriber implements Runnable {
+        private final Long gameId;
+        private final SseEmitter emitter;
+        private final ArrayBlockingQueue<Object> buffer = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private Subscriber(Long gameId, SseEmitter emitter) {
+            this.gameId = gameId;
+            this.emitter = emitter;
+        }
+
+        private void offer(GameStateEvent event) {
+            if (closed.get()) {
+                return;
+            }
+            // 버퍼가 가득 찼다면 가장 오래된 이벤트를 버리고 새 이벤트를 넣음
+            while (!buffer.offer(event)) {
+                buffer.poll();
+            }
+            schedule();
+        }
+
+        /**
+         * 버퍼가 비어 있을 때만 heartbeat를 넣습니다.
+         * 보낼 이벤트가 남아 있다면 연결이 곧 쓰이므로 heartbeat가 필요 없고,
+         * 상태 이벤트만 가장 오래된 것을 밀어내므로 가장 최근 상태 이벤트는 버려지지 않습니다.
+         */
+        private void offerHeartbeat() {
+            if (!closed.get() && buffer.isEmpty() && buffer.offer(HEARTBEAT)) {
+                schedule();
+            }
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                sender.execute(this);
+            }
+        }
+
+        /**
+         * 버퍼에 쌓인 이벤트를 순서대로 보냅니다. (전송 스레드에서 실행)
+         */
+        @Override
+        public void run() {
+            try {
+                Object message;
+                while (!closed.get() && (message = buffer.poll()) != null) {
+                    send(message);
+                }
+            } finally {
+                scheduled.set(false);
+            }
+            // 보내는 사이에 새로 들어온 이벤트가 있다면 다시 예약
+            if (!closed.get() && !buffer.isEmpty()) {
+                schedule();
+            }
+        }
+
+        private void send(Object message) {
+            try {
+                if (message == HEARTBEAT) {
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+                    return;
+                }
+                GameStateEvent event = (GameStateEvent) message;
+                emitter.send(SseEmitter.event().name("state").data(event, MediaType.APPLICATION_JSON));
+                // 끝난 게임은 더 보낼 내용이 없으므로 연결을 닫음
+                if (event.isComplete()) {
+                    emitter.complete();
+                    unsubscribe(this);
+                }
+            } catch (IOException | IllegalStateException e) {
+                // 클라이언트가 연결을 끊은 경우
+                log.debug("Closing game stream for game {}: {}", gameId, e.getMessage());
+                emitter.completeWithError(e);
+                unsubscribe(this);
+            }
+        }
+    }
+}
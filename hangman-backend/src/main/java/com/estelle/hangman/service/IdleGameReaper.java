@@ -0,0 +1,140 @@
+package com.estelle.hangman.service;
+
+import com.estelle.hangman.domain.GameSession;
+import com.estelle.hangman.domain.Role;
+import com.estelle.hangman.game.AdaptiveWordSelector;
+import com.estelle.hangman.game.GameEventLog;
+import com.estelle.hangman.game.GameHistoryWriter;
+import com.estelle.hangman.game.GameJournal;
+import com.estelle.hangman.game.GameLocks;
+import com.estelle.hangman.game.GameSessionStore;
+import com.estelle.hangman.game.ReviewQueueStore;
+import com.estelle.hangman.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+
+/**
+ * 학생이 중간에 그만둔 게임을 정리하는 스케줄러입니다.
+ * 일정 시간(idle-timeout) 동안 추측이 없던 게임을 세션 저장소에서 꺼내 포기 처리하고,
+ * 게임 기록은 끝난 게임과 같이 GameHistoryWriter에 넘겨 다른 기록들과 함께 batch insert로 저장합니다.
+ *
+ * 스케줄러 스레드에서 실행되므로 요청 처리 스레드에는 영향을 주지 않습니다.
+ * idle-timeout은 세션 저장소의 idle TTL보다 짧아야 기록 없이 버려지는 게임이 생기지 않습니다.
+ */
+@Slf4j
+@Component
+public class IdleGameReaper {
+
+    private final GameSessionStore gameSessionStore;
+    private final GameHistoryWriter gameHistoryWriter;
+    private final GameJournal gameJournal;
+    private final GameEventLog gameEventLog;
+    private final GameLocks gameLocks;
+    private final GameStreamService gameStreamService;
+    private final AdaptiveWordSelector adaptiveWordSelector;
+    private final ReviewQueueStore reviewQueueStore;
+    private final UserRepository userRepository;
+
+    /**
+     * 마지막 접근 이후 이 시간(분)이 지나면 방치된 게임으로 간주합니다.
+     */
+    private final long idleTimeoutMinutes;
+
+    public IdleGameReaper(
+            GameSessionStore gameSessionStore,
+            GameHistoryWriter gameHistoryWriter,
+            GameJournal gameJournal,
+            GameEventLog gameEventLog,
+            GameLocks gameLocks,
+            GameStreamService gameStreamService,
+            AdaptiveWordSelector adaptiveWordSelector,
+            ReviewQueueStore reviewQueueStore,
+            UserRepository userRepository,
+            @Value("${game.reaper.idle-timeout-minutes:30}") long idleTimeoutMinutes) {
+        this.gameSessionStore = gameSessionStore;
+        this.gameHistoryWriter = gameHistoryWriter;
+        this.gameJournal = gameJournal;
+        this.gameEventLog = gameEventLog;
+        this.gameLocks = gameLocks;
+        this.gameStreamService = gameStreamService;
+        this.adaptiveWordSelector = adaptiveWordSelector;
+        this.reviewQueueStore = reviewQueueStore;
+        this.userRepository = userRepository;
+        this.idleTimeoutMinutes = idleTimeoutMinutes;
+    }
+
+    /**
+     * 방치된 게임을 포기 처리하고 기록을 저장 대기열에 넣습니다.
+     */
+    @Scheduled(fixedDelayString = "${game.reaper.interval-ms:60000}")
+    public void reapIdleGames() {
+        long startTime = System.nanoTime();
+        Map<Long, GameSession> idle = gameSessionStore.removeIdle(idleTimeoutMinutes);
+        if (idle.isEmpty()) {
+            return;
+        }
+
+        List<Long> forfeitedIds = new ArrayList<>();
+        List<GameSession> forfeited = new ArrayList<>();
+        for (Map.Entry<Long, GameSession> e : idle.entrySet()) {
+            GameSession session = e.getValue();
+            // 저장소에서 꺼내기 직전에 세션을 가져간 추측 요청이 있을 수 있으므로 같은 잠금 안에서 확인
+            Lock lock = gameLocks.lockFor(e.getKey());
+            lock.lock();
+            try {
+                // 이미 끝난 게임은 종료 시점에 기록이 저장되었으므로 세션만 정리
+                if (session.isComplete()) {
+                    continue;
+                }
+                session.forfeit();
+                gameEventLog.recordForfeit(e.getKey(), session.getVersion());
+                gameStreamService.publish(e.getKey(), session);
+            } finally {
+                lock.unlock();
+            }
+            forfeitedIds.add(e.getKey());
+            forfeited.add(session);
+        }
+
+        if (!forfeited.isEmpty()) {
+            // 세션은 이미 저장소에서 꺼냈으므로, 저장이 실패해도 기록을 잃지 않도록 기록기의 재시도에 맡김
+            LocalDateTime now = LocalDateTime.now();
+            forfeited.forEach(session -> gameHistoryWriter.submit(toEntry(session, now)));
+            forfeitedIds.forEach(gameJournal::recordEnd);
+            // 포기한 학생의 게임도 실패로 보고 단어 성공률, 학생 승률, 복습 대기열에 반영
+            // (선생님/관리자의 시험 게임은 제외, 역할은 한 번의 쿼리로 ID만 조회)
+            Set<Long> students = userRepository.findIdsByIdInAndRole(
+                    forfeited.stream().map(GameSession::getStudentId).distinct().toList(), Role.USER);
+            forfeited.stream().filter(session -> students.contains(session.getStudentId())).forEach(session -> {
+                adaptiveWordSelector.recordResult(session.getStudentId(), session.getWordId(), false);
+                reviewQueueStore.recordResult(session.getStudentId(), session.getWordId(), false, session.getWrongCount());
+            });
+        }
+
+        log.info("Reaped {} idle game sessions ({} forfeited) in {}ms",
+                idle.size(), forfeited.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+    }
+
+    /**
+     * 포기 처리된 세션으로 저장할 게임 기록을 만듭니다. (학생과 단어는 조회 없이 ID만 사용)
+     */
+    private static GameHistoryWriter.Entry toEntry(GameSession session, LocalDateTime playedAt) {
+        return new GameHistoryWriter.Entry(
+                session.getStudentId(),
+                session.getWordId(),
+                false,
+                session.getWrongCount(),
+                session.getWrongMask(),
+                playedAt);
+    }
+}
@@ -0,0 +1,313 @@
+package com.estelle.hangman.service;
+
+import com.estelle.hangman.domain.Course;
+import com.estelle.hangman.domain.User;
+import com.estelle.hangman.domain.Word;
+import com.estelle.hangman.dto.WordImportResponse;
+import com.estelle.hangman.game.IdBlockAllocator;
+import com.estelle.hangman.game.WordPool;
+import com.estelle.hangman.repository.CourseRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 선생님이 학기 초에 단어를 한꺼번에 등록할 수 있도록 CSV/NDJSON 파일을 받아 저장하는 서비스입니다.
+ *
+ * - 요청 본문을 한 줄씩 읽으며 바로 검사하고 저장하므로, 파일 전체를 메모리에 올리지 않습니다.
+ * - 선생님과 반은 한 번만 조회하고, 반에 이미 있는 단어는 단어 색인에서 확인합니다. (행마다 조회하지 않음)
+ * - 올바른 행은 chunk-size개씩 모아 한 번의 JDBC batch insert로 저장합니다.
+ *   chunk마다 바로 커밋되므로, 중간에 요청이 끊겨도 이미 저장된 chunk는 남습니다.
+ * - 잘못된 행은 건너뛰고 줄 번호와 이유를 결과에 담습니다.
+ */
+@Slf4j
+@Service
+public class WordImportService {
+
+    /**
+     * 결과에 담을 최대 오류 수 (오류가 아주 많은 파일도 응답 크기가 커지지 않도록 함)
+     */
+    static final int MAX_REPORTED_ERRORS = 1000;
+
+    private static final int MAX_WORD_LENGTH = 255;
+
+    /**
+     * id_block 테이블에서 단어 ID를 예약할 때 쓰는 이름
+     */
+    private static final String ID_BLOCK = "words";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO words (id, word, course_id, teacher_id, category, difficulty, created_at, updated_at) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final IdBlockAllocator idBlockAllocator;
+    private final CourseRepository courseRepository;
+    private final WordPool wordPool;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 한 번의 batch insert로 저장하는 최대 단어 수
+     */
+    private final int chunkSize;
+
+    public WordImportService(
+            JdbcTemplate jdbcTemplate,
+            IdBlockAllocator idBlockAllocator,
+            CourseRepository courseRepository,
+            WordPool wordPool,
+            ObjectMapper objectMapper,
+            @Value("${word.import.chunk-size:1000}") int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.idBlockAllocator = idBlockAllocator;
+        this.courseRepository = courseRepository;
+        this.wordPool = wordPool;
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 요청 본문의 단어들을 반에 등록합니다.
+     * CSV는 "word,category,difficulty" 순서이며 첫 줄의 첫 번째 값이 word라면 제목 줄로 보고 건너뜁니다.
+     * NDJSON은 한 줄에 {"word": ..., "category": ..., "difficulty": ...} 하나씩입니다.
+     *
+     * @param teacher  단어를 등록하는 선생님 (권한은 호출하는 쪽에서 확인)
+     * @param courseId 단어를 등록할 반 ID
+     * @param body     요청 본문
+     * @param ndjson   true면 NDJSON, false면 CSV
+     */
+    public WordImportResponse importWords(User teacher, Long courseId, InputStream body, boolean ndjson) throws IOException {
+        long startTime = System.nanoTime();
+        Course course = courseRepository.findById(courseId)
+                .orElseThrow(() -> new IllegalArgumentException("Course not found"));
+
+        // 반에 이미 있는 단어 (이번 파일에서 등록한 단어도 여기에 더해 파일 안의 중복도 건너뜀)
+        Set<String> known = wordPool.textsByCourse(courseId);
+
+        Result result = new Result();
+        List<Word> chunk = new ArrayList<>(chunkSize);
+        int imported = 0;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            String line;
+            long lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank() || (!ndjson && lineNumber == 1 && isCsvHeader(line))) {
+                    continue;
+                }
+
+                Word word;
+                try {
+                    word = ndjson ? parseJson(line) : parseCsv(line);
+                } catch (IllegalArgumentException e) {
+                    result.error(lineNumber, e.getMessage());
+                    continue;
+                }
+                if (!known.add(word.getWord())) {
+                    result.duplicates++;
+                    continue;
+                }
+
+                word.setCourse(course);
+                word.setTeacher(teacher);
+                chunk.add(word);
+                if (chunk.size() == chunkSize) {
+                    imported += insert(chunk);
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                imported += insert(chunk);
+            }
+        }
+
+        log.info("Imported {} words into course {} ({} duplicates, {} errors) in {}ms", imported, courseId,
+                result.duplicates, result.errorCount, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+        return WordImportResponse.builder()
+                .importedCount(imported)
+                .duplicateCount(result.duplicates)
+                .errorCount(result.errorCount)
+                .errors(result.errors)
+                .build();
+    }
+
+    /**
+     * chunk의 단어들에 예약한 ID를 채우고 한 번의 batch insert로 저장한 뒤 단어 색인에 반영합니다.
+     * 저장한 chunk는 바로 색인에 넘기므로, 요청이 끝날 때까지 단어 엔티티를 모아 두지 않습니다.
+     *
+     * @return 저장한 단어 수
+     */
+    private int insert(List<Word> words) {
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp timestamp = Timestamp.valueOf(now);
+        long[] ids = idBlockAllocator.reserve(ID_BLOCK, words.size());
+        jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Word word = words.get(i);
+                ps.setLong(1, ids[i]);
+                ps.setString(2, word.getWord());
+                ps.setLong(3, word.getCourse().getId());
+                ps.setLong(4, word.getTeacher().getId());
+                if (word.getCategory() != null) {
+                    ps.setString(5, word.getCategory());
+                } else {
+                    ps.setNull(5, Types.VARCHAR);
+                }
+                ps.setInt(6, word.getDifficulty());
+                ps.setTimestamp(7, timestamp);
+                ps.setTimestamp(8, timestamp);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return words.size();
+            }
+        });
+        for (int i = 0; i < words.size(); i++) {
+            Word word = words.get(i);
+            word.setId(ids[i]);
+            word.setCreatedAt(now);
+            word.setUpdatedAt(now);
+        }
+        // 도중에 실패해도 이미 저장된 단어는 게임/검색에 쓸 수 있도록 chunk마다 반영
+        wordPool.putAll(words);
+        return words.size();
+    }
+
+    /**
+     * 첫 번째 값이 정확히 word(대소문자 무시)일 때만 제목 줄로 봅니다. (WORDY 같은 단어로 시작하는 행은 건너뛰지 않음)
+     */
+    static boolean isCsvHeader(String line) {
+        return splitCsv(line).get(0).trim().equalsIgnoreCase("word");
+    }
+
+    private Word parseJson(String line) {
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(line);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Invalid JSON");
+        }
+        if (node == null || !node.isObject()) {
+            throw new IllegalArgumentException("Expected a JSON object");
+        }
+        JsonNode difficulty = node.get("difficulty");
+        return toWord(text(node.get("word")), text(node.get("category")),
+                difficulty != null && !difficulty.isNull() ? difficulty.asText() : null);
+    }
+
+    private static String text(JsonNode node) {
+        return node != null && !node.isNull() ? node.asText() : null;
+    }
+
+    static Word parseCsv(String line) {
+        List<String> fields = splitCsv(line);
+        if (fields.size() != 3) {
+            throw new IllegalArgumentException("Expected 3 columns (word,category,difficulty) but got " + fields.size());
+        }
+        return toWord(fields.get(0), fields.get(1), fields.get(2));
+    }
+
+    /**
+     * CSV 한 줄을 나눕니다. 큰따옴표로 감싼 값 안의 쉼표와 두 번 쓴 큰따옴표("")를 처리합니다.
+     */
+    static List<String> splitCsv(String line) {
+        List<String> fields = new ArrayList<>(3);
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * 한 행의 값을 검사해 단어로 만듭니다. 단어는 createWord와 같이 대문자로 저장합니다.
+     */
+    static Word toWord(String text, String category, String difficulty) {
+        String value = text != null ? text.trim() : "";
+        if (value.isEmpty()) {
+            throw new IllegalArgumentException("Word is empty");
+        }
+        if (value.length() > MAX_WORD_LENGTH) {
+            throw new IllegalArgumentException("Word is longer than " + MAX_WORD_LENGTH + " characters");
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if ((c < 'A' || c > 'Z') && (c < 'a' || c > 'z')) {
+                throw new IllegalArgumentException("Word must contain only letters A-Z: " + value);
+            }
+        }
+
+        int level;
+        try {
+            level = Integer.parseInt(difficulty != null ? difficulty.trim() : "");
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Difficulty must be a number from 1 to 5");
+        }
+        if (level < 1 || level > 5) {
+            throw new IllegalArgumentException("Difficulty must be a number from 1 to 5");
+        }
+
+        Word word = new Word();
+        word.setWord(value.toUpperCase());
+        word.setCategory(category != null && !category.isBlank() ? category.trim() : null);
+        word.setDifficulty(level);
+        return word;
+    }
+
+    /**
+     * 건너뛴 행 수와 앞쪽 오류 목록
+     */
+    private static final class Result {
+        private int duplicates;
+        private int errorCount;
+        private final List<WordImportResponse.RowError> errors = new ArrayList<>();
+
+        private void error(long line, String message) {
+            errorCount++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new WordImportResponse.RowError(line, message));
+            }
+        }
+    }
+}
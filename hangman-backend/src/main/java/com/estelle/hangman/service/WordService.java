@@ -4,15 +4,18 @@ import com.estelle.hangman.domain.Role;
 import com.estelle.hangman.domain.User;
 import com.estelle.hangman.domain.Word;
 import com.estelle.hangman.dto.*;
+import com.estelle.hangman.game.ReviewQueueStore;
+import com.estelle.hangman.game.WordPool;
 import com.estelle.hangman.repository.CourseRepository;
 import com.estelle.hangman.repository.UserRepository;
 import com.estelle.hangman.repository.WordRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -29,67 +32,77 @@ public class WordService {
     private final WordRepository wordRepository;        // 단어 저장소
     private final UserRepository userRepository;        // 사용자 저장소
     private final CourseRepository courseRepository;    // 반 저장소
+    private final WordPool wordPool;                    // 게임용 단어 색인 (단어가 바뀌면 함께 갱신)
+    private final ReviewQueueStore reviewQueueStore;    // 학생별 복습 대기열 (단어가 삭제되면 복습 일정도 지움)
+
+    // 단어 목록 한 페이지의 기본/최대 단어 수
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
 
     /**
      * 시스템에 등록된 모든 단어 카테고리와 통계 정보를 조회합니다.
      * 각 카테고리별 단어 수와 평균 난이도를 계산합니다.
      */
     public List<WordCategoryResponse> getAllCategories() {
-        // 모든 단어를 가져옴
-        List<Word> allWords = wordRepository.findAll();
-
-        // 카테고리별로 단어들을 그룹화
-        Map<String, List<Word>> wordsByCategory = allWords.stream()
-                .collect(Collectors.groupingBy(Word::getCategory));
-
-        // 각 카테고리별로 통계 정보를 생성
-        return wordsByCategory.entrySet().stream()
-                .map(entry -> {
-                    List<Word> words = entry.getValue();
-                    // 카테고리의 평균 난이도 계산
-                    double avgDifficulty = words.stream()
-                            .mapToInt(Word::getDifficulty)
-                            .average()
-                            .orElse(0.0);
-
-                    // 응답 객체 생성
-                    return WordCategoryResponse.builder()
-                            .category(entry.getKey())
-                            .wordCount(words.size())
-                            .averageDifficulty(avgDifficulty)
-                            .build();
-                })
+        // 단어 색인이 관리하는 카테고리 요약을 사용 (단어 행을 읽지 않음)
+        return wordPool.categories().stream()
+                .map(stats -> WordCategoryResponse.builder()
+                        .category(stats.category())
+                        .wordCount(stats.wordCount())
+                        .averageDifficulty(stats.averageDifficulty())
+                        .build())
                 .collect(Collectors.toList());
     }
 
     /**
-     * 특정 카테고리와 난이도에 해당하는 단어들을 조회합니다.
+     * 특정 카테고리와 난이도에 해당하는 단어들을 한 페이지씩 조회합니다.
      * 사용자의 역할(관리자/선생님/학생)에 따라 접근 가능한 단어가 다릅니다.
+     *
+     * @param after 이전 페이지의 nextCursor (처음 페이지는 null)
+     * @param limit 페이지 크기 (null이면 기본값, 최대 MAX_PAGE_SIZE)
      */
-    public List<WordResponse> getWordsByCategory(
-            String category, Integer difficulty, String username) {
+    public WordPageResponse getWordsByCategory(
+            String category, Integer difficulty, String username, Long after, Integer limit) {
 
         // 현재 사용자 정보 조회
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
-        List<Word> words;
         // 사용자 역할에 따라 다른 단어 목록 제공
-        if (user.getRole() == Role.ADMIN) {
-            // 관리자는 모든 단어 접근 가능
-            words = wordRepository.findByCategoryAndDifficulty(category, difficulty);
-        } else if (user.getRole() == Role.MANAGER) {
+        Long courseId = null;
+        Long teacherId = null;
+        if (user.getRole() == Role.MANAGER) {
             // 선생님은 자신이 등록한 단어만 접근 가능
-            words = wordRepository.findByTeacherIdAndCategory(user.getId(), category);
-        } else {
-            // 학생은 자신의 반의 단어만 접근 가능
-            words = wordRepository.findByCourseIdAndCategory(user.getCourse().getId(), category);
+            teacherId = user.getId();
+        } else if (user.getRole() != Role.ADMIN) {
+            // 학생은 자신의 반의 단어만 접근 가능 (관리자는 모든 단어 접근 가능)
+            courseId = user.getCourse().getId();
         }
 
-        // 단어 목록을 응답 형식으로 변환
-        return words.stream()
-                .map(this::convertToWordResponse)
-                .collect(Collectors.toList());
+        int size = pageSize(limit);
+        return toPage(wordRepository.findPage(category, difficulty, courseId, teacherId,
+                cursor(after), PageRequest.of(0, size + 1)), size);
+    }
+
+    /**
+     * 선생님이 등록한 단어들을 한 페이지씩 조회합니다. (카테고리가 주어지면 해당 카테고리만)
+     *
+     * @param after 이전 페이지의 nextCursor (처음 페이지는 null)
+     * @param limit 페이지 크기 (null이면 기본값, 최대 MAX_PAGE_SIZE)
+     */
+    public WordPageResponse getWordsByTeacher(String username, String category, Long after, Integer limit) {
+        // 교사 정보 확인
+        User teacher = userRepository.findByUsername(username)
+                .orElseThrow(() -> new RuntimeException("Teacher not found"));
+
+        // 실제로 교사인지 확인
+        if (teacher.getRole() != Role.MANAGER) {
+            throw new RuntimeException("User is not a teacher");
+        }
+
+        int size = pageSize(limit);
+        return toPage(wordRepository.findPage(category, null, null, teacher.getId(),
+                cursor(after), PageRequest.of(0, size + 1)), size);
     }
 
     /**
@@ -106,19 +119,12 @@ public class WordService {
             throw new RuntimeException("User is not a teacher");
         }
 
-        // 교사가 등록한 단어들 가져오기
-        List<Word> teacherWords = wordRepository.findByTeacherId(teacher.getId());
-
-        // 카테고리별로 단어 그룹화
-        Map<String, List<Word>> wordsByCategory = teacherWords.stream()
-                .collect(Collectors.groupingBy(Word::getCategory));
-
-        // 카테고리별 통계 정보 생성
-        return wordsByCategory.entrySet().stream()
-                .map(entry -> WordCategoryResponse.builder()
-                        .category(entry.getKey())
-                        .wordCount(entry.getValue().size())
-                        .averageDifficulty(calculateAverageDifficulty(entry.getValue()))
+        // 교사가 등록한 단어의 카테고리별 통계를 DB에서 집계 (단어 행을 가져오지 않음)
+        return wordRepository.summarizeCategoriesByTeacherId(teacher.getId()).stream()
+                .map(row -> WordCategoryResponse.builder()
+                        .category((String) row[0])
+                        .wordCount(((Number) row[1]).intValue())
+                        .averageDifficulty(((Number) row[2]).doubleValue())
                         .build())
                 .collect(Collectors.toList());
     }
@@ -143,8 +149,10 @@ public class WordService {
         word.setCourse(courseRepository.findById(request.getCourseId())
                 .orElseThrow(() -> new RuntimeException("반을 찾을 수 없습니다")));
 
-        // 저장하고 응답 형식으로 변환하여 반환
-        return convertToWordResponse(wordRepository.save(word));
+        // 저장하고 게임용 단어 색인에 추가한 뒤 응답 형식으로 변환하여 반환
+        Word saved = wordRepository.save(word);
+        wordPool.put(saved);
+        return convertToWordResponse(saved);
     }
 
     /**
@@ -167,6 +175,8 @@ public class WordService {
             word.setDifficulty(request.getDifficulty());
         }
 
+        // 게임용 단어 색인도 새 내용으로 교체 (커밋 후 반영)
+        wordPool.put(word);
         return convertToWordResponse(word);
     }
 
@@ -176,28 +186,65 @@ public class WordService {
     @Transactional
     public void deleteWord(Long id) {
         wordRepository.deleteById(id);
+        wordPool.remove(id);
+        reviewQueueStore.removeWord(id);
     }
 
     /**
-     * 단어를 검색합니다.
+     * 단어를 한 페이지씩 검색합니다.
      * 키워드, 카테고리, 난이도를 기준으로 검색할 수 있습니다.
+     *
+     * @param after 이전 페이지의 nextCursor (처음 페이지는 null)
+     * @param limit 페이지 크기 (null이면 기본값, 최대 MAX_PAGE_SIZE)
      */
-    public List<WordResponse> searchWords(
-            String keyword, String category, Integer difficulty) {
-        List<Word> words = wordRepository.searchWords(keyword, category, difficulty);
-        return words.stream()
-                .map(this::convertToWordResponse)
-                .collect(Collectors.toList());
+    public WordPageResponse searchWords(
+            String keyword, String category, Integer difficulty, Long after, Integer limit) {
+        int size = pageSize(limit);
+
+        // 조건이 하나도 없다면 색인 없이 DB에서 바로 다음 페이지를 조회
+        if ((keyword == null || keyword.isEmpty()) && category == null && difficulty == null) {
+            return toPage(wordRepository.findPage(null, null, null, null,
+                    cursor(after), PageRequest.of(0, size + 1)), size);
+        }
+
+        // 검색 색인으로 조건에 맞는 단어 ID를 한 페이지만큼 구함 (words 테이블 전체를 LIKE로 훑지 않음)
+        // 다음 페이지 여부와 커서는 색인이 찾은 ID로 정함
+        // (그사이 삭제되어 DB에서 읽히지 않는 단어가 있어도 페이지가 끊기거나 같은 단어를 다시 건너뛰지 않음)
+        List<Long> ids = wordPool.search(keyword, category, difficulty, cursor(after), size + 1);
+        if (ids.size() <= size) {
+            List<WordResponse> words = ids.isEmpty() ? List.of() : wordRepository.findResponsesByIdIn(ids);
+            return WordPageResponse.builder().words(words).build();
+        }
+        List<Long> pageIds = ids.subList(0, size);
+        return WordPageResponse.builder()
+                .words(wordRepository.findResponsesByIdIn(pageIds))
+                .nextCursor(pageIds.get(size - 1))
+                .build();
+    }
+
+    private static int pageSize(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+    }
+
+    private static long cursor(Long after) {
+        return after != null ? after : 0L;
     }
 
     /**
-     * 단어 목록의 평균 난이도를 계산하는 유틸리티 메서드
+     * 페이지 크기보다 하나 더 조회한 결과로 페이지를 만듭니다. (하나가 더 있다면 다음 페이지가 있는 것)
      */
-    private double calculateAverageDifficulty(List<Word> words) {
-        return words.stream()
-                .mapToInt(Word::getDifficulty)
-                .average()
-                .orElse(0.0);
+    private static WordPageResponse toPage(List<WordResponse> rows, int size) {
+        if (rows.size() <= size) {
+            return WordPageResponse.builder().words(rows).build();
+        }
+        List<WordResponse> words = rows.subList(0, size);
+        return WordPageResponse.builder()
+                .words(new ArrayList<>(words))
+                .nextCursor(words.get(size - 1).getId())
+                .build();
     }
 
     /**
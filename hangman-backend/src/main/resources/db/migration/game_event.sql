@@ -0,0 +1,16 @@
+-- 게임 진행 이벤트(시작, 추측, 포기)를 저장하는 game_event 테이블을 만드는 MySQL 마이그레이션
+-- ddl-auto가 validate이므로 이 버전을 배포하기 전에 한 번 실행합니다.
+-- 기본 키는 (게임 ID, 순번)이며, 자동 증가 ID가 없으므로 GameEventLog가 여러 행을 한 번에 저장(batch insert)할 수 있습니다.
+-- 순번 0 = 시작 이벤트(word_id, student_id, word_text), 1부터 = 추측 순서대로의 글자 (letter가 NULL이면 포기)
+
+CREATE TABLE IF NOT EXISTS game_event (
+    game_id    BIGINT       NOT NULL,
+    ordinal    INT          NOT NULL,
+    letter     VARCHAR(1),
+    hit        BIT,
+    offset_ms  INT          NOT NULL,
+    word_id    BIGINT,
+    student_id BIGINT,
+    word_text  VARCHAR(255),
+    PRIMARY KEY (game_id, ordinal)
+);
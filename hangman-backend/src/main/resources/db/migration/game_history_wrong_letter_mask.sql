@@ -0,0 +1,35 @@
+-- game_history.wrong_letters("A,B,C" 문자열)를 26비트 정수 wrong_letter_mask로 바꾸는 MySQL 마이그레이션
+-- (A = 0번 비트, 예: "A,B,C" -> 7). ddl-auto가 validate이므로 이 버전을 배포하기 전에 한 번 실행합니다.
+-- 1. 새 컬럼 추가  2. 기존 행의 문자열을 비트로 채움  3. 옛 컬럼 삭제
+
+ALTER TABLE game_history ADD COLUMN wrong_letter_mask INT NOT NULL DEFAULT 0;
+
+UPDATE game_history SET wrong_letter_mask =
+      (FIND_IN_SET('A', COALESCE(wrong_letters, '')) > 0)
+    | (FIND_IN_SET('B', COALESCE(wrong_letters, '')) > 0) << 1
+    | (FIND_IN_SET('C', COALESCE(wrong_letters, '')) > 0) << 2
+    | (FIND_IN_SET('D', COALESCE(wrong_letters, '')) > 0) << 3
+    | (FIND_IN_SET('E', COALESCE(wrong_letters, '')) > 0) << 4
+    | (FIND_IN_SET('F', COALESCE(wrong_letters, '')) > 0) << 5
+    | (FIND_IN_SET('G', COALESCE(wrong_letters, '')) > 0) << 6
+    | (FIND_IN_SET('H', COALESCE(wrong_letters, '')) > 0) << 7
+    | (FIND_IN_SET('I', COALESCE(wrong_letters, '')) > 0) << 8
+    | (FIND_IN_SET('J', COALESCE(wrong_letters, '')) > 0) << 9
+    | (FIND_IN_SET('K', COALESCE(wrong_letters, '')) > 0) << 10
+    | (FIND_IN_SET('L', COALESCE(wrong_letters, '')) > 0) << 11
+    | (FIND_IN_SET('M', COALESCE(wrong_letters, '')) > 0) << 12
+    | (FIND_IN_SET('N', COALESCE(wrong_letters, '')) > 0) << 13
+    | (FIND_IN_SET('O', COALESCE(wrong_letters, '')) > 0) << 14
+    | (FIND_IN_SET('P', COALESCE(wrong_letters, '')) > 0) << 15
+    | (FIND_IN_SET('Q', COALESCE(wrong_letters, '')) > 0) << 16
+    | (FIND_IN_SET('R', COALESCE(wrong_letters, '')) > 0) << 17
+    | (FIND_IN_SET('S', COALESCE(wrong_letters, '')) > 0) << 18
+    | (FIND_IN_SET('T', COALESCE(wrong_letters, '')) > 0) << 19
+    | (FIND_IN_SET('U', COALESCE(wrong_letters, '')) > 0) << 20
+    | (FIND_IN_SET('V', COALESCE(wrong_letters, '')) > 0) << 21
+    | (FIND_IN_SET('W', COALESCE(wrong_letters, '')) > 0) << 22
+    | (FIND_IN_SET('X', COALESCE(wrong_letters, '')) > 0) << 23
+    | (FIND_IN_SET('Y', COALESCE(wrong_letters, '')) > 0) << 24
+    | (FIND_IN_SET('Z', COALESCE(wrong_letters, '')) > 0) << 25;
+
+ALTER TABLE game_history DROP COLUMN wrong_letters;
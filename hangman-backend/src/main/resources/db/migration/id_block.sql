@@ -0,0 +1,16 @@
+-- 미리 예약하는 ID 블록(@BlockId, IdBlockAllocator)의 다음 값을 보관하는 id_block 테이블을 만드는 MySQL 마이그레이션
+-- ddl-auto가 validate이므로 이 버전을 배포하기 전에 한 번 실행합니다.
+-- 테이블마다 한 행이며, name은 @BlockId 값(테이블 이름), next_val은 다음에 나눠줄 ID입니다.
+-- BlockIdGenerator가 UPDATE ... SET next_val = LAST_INSERT_ID(next_val + 블록 크기)로 블록을 예약합니다.
+-- 이미 있는 행과 ID가 겹치지 않도록 각 테이블의 가장 큰 ID 다음 값에서 시작합니다. (이미 있는 행은 건드리지 않음)
+
+CREATE TABLE IF NOT EXISTS id_block (
+    name     VARCHAR(64) NOT NULL,
+    next_val BIGINT      NOT NULL,
+    PRIMARY KEY (name)
+);
+
+INSERT IGNORE INTO id_block (name, next_val) SELECT 'users', COALESCE(MAX(id), 0) + 1 FROM users;
+INSERT IGNORE INTO id_block (name, next_val) SELECT 'courses', COALESCE(MAX(id), 0) + 1 FROM courses;
+INSERT IGNORE INTO id_block (name, next_val) SELECT 'words', COALESCE(MAX(id), 0) + 1 FROM words;
+INSERT IGNORE INTO id_block (name, next_val) SELECT 'game_history', COALESCE(MAX(id), 0) + 1 FROM game_history;
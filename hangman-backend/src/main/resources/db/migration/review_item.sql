@@ -0,0 +1,16 @@
+-- 학생별 단어 복습 일정(SM-2)을 저장하는 review_item 테이블을 만드는 MySQL 마이그레이션
+-- ddl-auto가 validate이므로 이 버전을 배포하기 전에 한 번 실행합니다.
+-- 기본 키는 (학생 ID, 단어 ID)이며, ReviewItemWriter가 이 키로 여러 행을 한 번에 upsert(INSERT ... ON DUPLICATE KEY UPDATE)합니다.
+-- 단어가 삭제되면 ReviewItemWriter가 word_id로 행을 지우므로 word_id에 색인을 둡니다.
+-- 외래 키는 두지 않습니다. (묶음 저장 중 행 하나가 제약에 걸려 묶음 전체가 실패하지 않도록)
+
+CREATE TABLE IF NOT EXISTS review_item (
+    student_id    BIGINT   NOT NULL,
+    word_id       BIGINT   NOT NULL,
+    due_date      DATE     NOT NULL,
+    interval_days SMALLINT NOT NULL,
+    ease          SMALLINT NOT NULL,
+    repetitions   TINYINT  NOT NULL,
+    PRIMARY KEY (student_id, word_id),
+    KEY idx_review_item_word (word_id)
+);
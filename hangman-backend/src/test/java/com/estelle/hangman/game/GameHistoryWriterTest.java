@@ -0,0 +1,176 @@
+package com.estelle.hangman.game;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.TransientDataAccessResourceException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * GameHistoryWriter의 재시도, 이미 저장된 행 건너뛰기, 저장할 수 없는 행 찾기(반씩 나누기)를 확인합니다.
+ * DB 대신 insert/writtenIds를 바꿔 Map에 저장합니다.
+ */
+class GameHistoryWriterTest {
+
+    private static final long DELETED_WORD_ID = 999L;
+
+    /**
+     * ID를 Key로 하는 game_history 테이블 대신
+     */
+    private final Map<Long, GameHistoryWriter.Entry> table = new ConcurrentHashMap<>();
+    private final List<Integer> insertSizes = new ArrayList<>();
+    private final AtomicInteger writtenIdsCalls = new AtomicInteger();
+
+    /**
+     * 0보다 크면 insert가 이 횟수만큼 일시적인 오류를 냄
+     */
+    private int transientFailures;
+
+    /**
+     * 일시적인 오류를 내기 전에 앞쪽 이만큼의 행은 저장함 (rewriteBatchedStatements가 나눠 보낸 INSERT 중 일부만 성공한 경우)
+     */
+    private int partialWrites;
+
+    private final IdBlockAllocator idBlockAllocator = new IdBlockAllocator(null, 100) {
+        private long next = 1;
+
+        @Override
+        protected synchronized long reserveBlock(String name, int size) {
+            long first = next;
+            next += size;
+            return first;
+        }
+    };
+
+    private final GameHistoryWriter writer = new GameHistoryWriter(null, idBlockAllocator, 100, 50, 10, 10, 10) {
+        @Override
+        protected void insert(List<Entry> batch, long[] ids) {
+            synchronized (insertSizes) {
+                insertSizes.add(batch.size());
+                if (transientFailures > 0) {
+                    transientFailures--;
+                    for (int i = 0; i < Math.min(partialWrites, batch.size()); i++) {
+                        table.put(ids[i], batch.get(i));
+                    }
+                    throw new TransientDataAccessResourceException("Connection reset");
+                }
+                // 한 번의 INSERT는 모두 저장되거나 하나도 저장되지 않음
+                for (int i = 0; i < batch.size(); i++) {
+                    if (table.containsKey(ids[i])) {
+                        throw new DuplicateKeyException("Duplicate entry '" + ids[i] + "' for key 'PRIMARY'");
+                    }
+                    if (batch.get(i).wordId() == DELETED_WORD_ID) {
+                        throw new DataIntegrityViolationException("Cannot add or update a child row");
+                    }
+                }
+                for (int i = 0; i < batch.size(); i++) {
+                    table.put(ids[i], batch.get(i));
+                }
+            }
+        }
+
+        @Override
+        protected Set<Long> writtenIds(List<Entry> batch, long[] ids) {
+            writtenIdsCalls.incrementAndGet();
+            Set<Long> written = new HashSet<>();
+            for (int i = 0; i < ids.length; i++) {
+                Entry stored = table.get(ids[i]);
+                if (stored != null && stored.studentId() == batch.get(i).studentId()
+                        && stored.wordId() == batch.get(i).wordId()) {
+                    written.add(ids[i]);
+                }
+            }
+            return written;
+        }
+    };
+
+    @Test
+    void writesQueuedEntriesInBatches() throws Exception {
+        writer.start();
+        for (int i = 0; i < 120; i++) {
+            writer.submit(entry(i, i));
+        }
+        writer.stop();
+
+        assertEquals(120, table.size());
+        assertEquals(120, insertSizes.stream().mapToInt(Integer::intValue).sum());
+        assertTrue(insertSizes.stream().allMatch(size -> size <= 50));
+        assertEquals(0, writtenIdsCalls.get());
+    }
+
+    @Test
+    void retriesATransientFailureWithoutWritingRowsTwice() {
+        transientFailures = 1;
+        partialWrites = 3;
+
+        List<GameHistoryWriter.Entry> batch = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            batch.add(entry(i, i));
+        }
+        writer.write(batch, true);
+
+        assertEquals(8, table.size());
+        assertEquals(new HashSet<>(batch), new HashSet<>(table.values()));
+        // 두 번째 시도는 이미 저장된 3행을 빼고 나머지 5행만 보냄
+        assertEquals(List.of(8, 5), insertSizes);
+        assertEquals(1, writtenIdsCalls.get());
+    }
+
+    @Test
+    void retriesUntilTheTransientFailureClears() {
+        transientFailures = 2;
+
+        List<GameHistoryWriter.Entry> batch = List.of(entry(1, 1), entry(2, 2));
+        writer.write(batch, true);
+
+        assertEquals(new HashSet<>(batch), new HashSet<>(table.values()));
+        assertEquals(List.of(2, 2, 2), insertSizes);
+    }
+
+    @Test
+    void splitsTheBatchToDropOnlyTheRowThatCannotBeStored() {
+        List<GameHistoryWriter.Entry> batch = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            batch.add(entry(i, i == 5 ? DELETED_WORD_ID : i));
+        }
+        writer.write(batch, true);
+
+        assertEquals(7, table.size());
+        assertTrue(table.values().stream().noneMatch(e -> e.wordId() == DELETED_WORD_ID));
+        // 8 -> 4 + 4 -> (4 저장) 2 + 2 -> 1 + 1 (1 저장, 1 버림), 2 저장: 문제가 되는 행이 든 절반만 더 나눔
+        assertEquals(List.of(8, 4, 4, 2, 1, 1, 2), insertSizes);
+    }
+
+    @Test
+    void storesARowUnderANewIdWhenItsReservedIdIsTaken() {
+        // id_block이 뒤처져 다른 기록이 이미 ID 2를 쓰고 있음
+        GameHistoryWriter.Entry other = entry(42, 42);
+        table.put(2L, other);
+
+        List<GameHistoryWriter.Entry> batch = List.of(entry(1, 1), entry(2, 2), entry(3, 3), entry(4, 4));
+        writer.write(batch, true);
+
+        assertEquals(5, table.size());
+        assertSame(other, table.get(2L));
+        assertEquals(entry(1, 1), table.get(1L));
+        assertEquals(entry(3, 3), table.get(3L));
+        assertEquals(entry(4, 4), table.get(4L));
+        // 자리를 빼앗긴 기록은 새로 예약한 ID로 저장됨
+        assertTrue(table.entrySet().stream().anyMatch(e -> e.getKey() > 4 && e.getValue().equals(entry(2, 2))));
+    }
+
+    private static GameHistoryWriter.Entry entry(long studentId, long wordId) {
+        return new GameHistoryWriter.Entry(studentId, wordId, wordId % 2 == 0, (int) (wordId % 6), 0,
+                LocalDateTime.of(2026, 3, 1, 12, 0));
+    }
+}
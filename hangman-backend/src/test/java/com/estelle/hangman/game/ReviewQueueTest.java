@@ -0,0 +1,85 @@
+package com.estelle.hangman.game;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReviewQueueTest {
+
+    private static final long TODAY = 20_000L;  // 고정된 epoch day
+
+    private final ReviewQueue queue = new ReviewQueue(List.of());
+
+    @Test
+    void intervalsGrowFromOneToSixThenByEase() {
+        ReviewQueue.Card card = queue.record(1L, 1, TODAY);
+        assertEquals(0, card.repetitions);
+        assertEquals(1, card.intervalDays);
+        assertEquals(196, card.ease);  // 250 + 10 - 4 x (8 + 4 x 2)
+        assertEquals(TODAY + 1, card.dueDay);
+
+        card = queue.record(1L, 5, TODAY + 1);
+        assertEquals(1, card.repetitions);
+        assertEquals(1, card.intervalDays);
+        assertEquals(206, card.ease);
+        assertEquals(TODAY + 2, card.dueDay);
+
+        card = queue.record(1L, 5, TODAY + 2);
+        assertEquals(2, card.repetitions);
+        assertEquals(6, card.intervalDays);
+        assertEquals(216, card.ease);
+        assertEquals(TODAY + 8, card.dueDay);
+
+        card = queue.record(1L, 4, TODAY + 8);
+        assertEquals(3, card.repetitions);
+        assertEquals(13, card.intervalDays);  // round(6 x 2.16)
+        assertEquals(216, card.ease);          // 점수 4는 계수를 바꾸지 않음
+        assertEquals(TODAY + 21, card.dueDay);
+
+        card = queue.record(1L, 5, TODAY + 21);
+        assertEquals(28, card.intervalDays);  // round(13 x 2.16)
+        assertEquals(226, card.ease);
+    }
+
+    @Test
+    void failureResetsTheInterval() {
+        queue.record(1L, 1, TODAY);
+        queue.record(1L, 5, TODAY);
+        queue.record(1L, 5, TODAY);
+        queue.record(1L, 5, TODAY);
+
+        ReviewQueue.Card card = queue.record(1L, 1, TODAY + 30);
+        assertEquals(0, card.repetitions);
+        assertEquals(1, card.intervalDays);
+        assertEquals(TODAY + 31, card.dueDay);
+    }
+
+    @Test
+    void easeNeverDropsBelowTheFloor() {
+        assertEquals(196, queue.record(1L, 1, TODAY).ease);
+        assertEquals(142, queue.record(1L, 1, TODAY).ease);
+        assertEquals(130, queue.record(1L, 1, TODAY).ease);
+        assertEquals(130, queue.record(1L, 0, TODAY).ease);
+        assertEquals(130, queue.record(1L, 3, TODAY).ease);  // 130 + 10 - 2 x (8 + 2 x 2) = 116 -> 130
+    }
+
+    @Test
+    void solvingAWordThatIsNotQueuedDoesNotAddIt() {
+        assertNull(queue.record(1L, 5, TODAY));
+        assertNull(queue.record(1L, 3, TODAY));
+        assertNotNull(queue.record(1L, 2, TODAY));
+    }
+
+    @Test
+    void qualityFollowsTheNumberOfWrongLetters() {
+        assertEquals(1, ReviewQueueStore.quality(false, 0));
+        assertEquals(1, ReviewQueueStore.quality(false, 6));
+        assertEquals(5, ReviewQueueStore.quality(true, 0));
+        assertEquals(5, ReviewQueueStore.quality(true, 1));
+        assertEquals(4, ReviewQueueStore.quality(true, 2));
+        assertEquals(4, ReviewQueueStore.quality(true, 4));
+        assertEquals(3, ReviewQueueStore.quality(true, 5));
+    }
+}
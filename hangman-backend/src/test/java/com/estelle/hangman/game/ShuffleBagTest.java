@@ -0,0 +1,124 @@
+package com.estelle.hangman.game;
+
+import com.estelle.hangman.domain.Course;
+import com.estelle.hangman.domain.User;
+import com.estelle.hangman.domain.Word;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ShuffleBagTest {
+
+    private static final long COURSE_ID = 1L;
+    private static final long TEACHER_ID = 10L;
+
+    private final WordPool pool = new WordPool(null);
+
+    @Test
+    void drawsEveryWordOnceBeforeRepeating() {
+        addWords(1, 20);
+        ShuffleBag bag = new ShuffleBag(COURSE_ID, TEACHER_ID);
+
+        long previous = -1;
+        for (int cycle = 0; cycle < 5; cycle++) {
+            Set<Long> seen = new HashSet<>();
+            for (int i = 0; i < 20; i++) {
+                long id = bag.next(pool).getId();
+                assertTrue(seen.add(id), "word " + id + " repeated within cycle " + cycle);
+                // 바퀴가 바뀌는 경계에서도 같은 단어가 연달아 나오지 않아야 함
+                assertNotEquals(previous, id);
+                previous = id;
+            }
+            assertEquals(ids(1, 20), seen);
+        }
+    }
+
+    @Test
+    void wordsAddedMidCycleAreDrawnInTheSameCycle() {
+        addWords(1, 10);
+        ShuffleBag bag = new ShuffleBag(COURSE_ID, TEACHER_ID);
+
+        Set<Long> seen = new HashSet<>();
+        for (int i = 0; i < 4; i++) {
+            assertTrue(seen.add(bag.next(pool).getId()));
+        }
+        addWords(11, 13);
+
+        // 남은 6개 + 새로 추가된 3개가 이번 바퀴 안에 한 번씩 나와야 함
+        for (int i = 0; i < 9; i++) {
+            long id = bag.next(pool).getId();
+            assertTrue(seen.add(id), "word " + id + " repeated before the cycle ended");
+        }
+        assertEquals(ids(1, 13), seen);
+    }
+
+    @Test
+    void deletedWordsAreSkipped() {
+        addWords(1, 10);
+        ShuffleBag bag = new ShuffleBag(COURSE_ID, TEACHER_ID);
+
+        Set<Long> seen = new HashSet<>();
+        for (int i = 0; i < 3; i++) {
+            seen.add(bag.next(pool).getId());
+        }
+        // 아직 꺼내지 않은 단어 두 개를 삭제
+        Set<Long> deleted = new HashSet<>();
+        for (long id = 1; deleted.size() < 2; id++) {
+            if (!seen.contains(id)) {
+                pool.remove(id);
+                deleted.add(id);
+            }
+        }
+
+        for (int i = 0; i < 5; i++) {
+            long id = bag.next(pool).getId();
+            assertFalse(deleted.contains(id), "deleted word " + id + " was drawn");
+            assertTrue(seen.add(id));
+        }
+        Set<Long> expected = ids(1, 10);
+        expected.removeAll(deleted);
+        assertEquals(expected, seen);
+
+        // 다음 바퀴에도 삭제된 단어는 나오지 않음
+        for (int i = 0; i < 8; i++) {
+            assertFalse(deleted.contains(bag.next(pool).getId()));
+        }
+    }
+
+    @Test
+    void returnsNullWhenTheCourseHasNoWords() {
+        ShuffleBag bag = new ShuffleBag(COURSE_ID, TEACHER_ID);
+        assertNull(bag.next(pool));
+
+        addWords(1, 1);
+        pool.remove(1L);
+        assertNull(bag.next(pool));
+    }
+
+    private void addWords(long firstId, long lastId) {
+        Course course = new Course();
+        course.setId(COURSE_ID);
+        User teacher = new User();
+        teacher.setId(TEACHER_ID);
+        for (long id = firstId; id <= lastId; id++) {
+            Word word = new Word();
+            word.setId(id);
+            word.setWord("WORD" + id);
+            word.setCourse(course);
+            word.setTeacher(teacher);
+            word.setDifficulty(1);
+            pool.put(word);
+        }
+    }
+
+    private static Set<Long> ids(long firstId, long lastId) {
+        Set<Long> ids = new HashSet<>();
+        for (long id = firstId; id <= lastId; id++) {
+            ids.add(id);
+        }
+        return ids;
+    }
+}
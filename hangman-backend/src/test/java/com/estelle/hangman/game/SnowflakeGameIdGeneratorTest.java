@@ -0,0 +1,89 @@
+package com.estelle.hangman.game;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SnowflakeGameIdGeneratorTest {
+
+    @Test
+    void idsAreUniqueAcrossThreads() throws Exception {
+        SnowflakeGameIdGenerator generator = new SnowflakeGameIdGenerator(3);
+        int threads = 8;
+        int perThread = 500_000;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<long[]>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                long[] ids = new long[perThread];
+                start.await();
+                for (int i = 0; i < perThread; i++) {
+                    ids[i] = generator.nextId();
+                }
+                return ids;
+            }));
+        }
+        start.countDown();
+
+        long[] all = new long[threads * perThread];
+        int offset = 0;
+        for (Future<long[]> future : futures) {
+            long[] ids = future.get();
+            // 한 스레드 안에서는 항상 증가해야 함
+            for (int i = 1; i < ids.length; i++) {
+                assertTrue(ids[i] > ids[i - 1], "ids must be monotonic within a thread");
+            }
+            System.arraycopy(ids, 0, all, offset, ids.length);
+            offset += ids.length;
+        }
+        executor.shutdown();
+
+        // 전체를 정렬했을 때 이웃한 값이 같으면 중복
+        Arrays.sort(all);
+        for (int i = 1; i < all.length; i++) {
+            assertNotEquals(all[i - 1], all[i], "duplicate id " + all[i]);
+        }
+    }
+
+    @Test
+    void idsStayWithinJavaScriptSafeRangeAndCarryNodeId() {
+        SnowflakeGameIdGenerator generator = new SnowflakeGameIdGenerator(17);
+        long id = generator.nextId();
+
+        assertTrue(id > 0 && id < (1L << 53));
+        long nodeId = (id >>> SnowflakeGameIdGenerator.SEQUENCE_BITS) & SnowflakeGameIdGenerator.MAX_NODE_ID;
+        assertEquals(17, nodeId);
+    }
+
+    @Test
+    void differentNodesNeverCollide() {
+        SnowflakeGameIdGenerator node0 = new SnowflakeGameIdGenerator(0);
+        SnowflakeGameIdGenerator node1 = new SnowflakeGameIdGenerator(1);
+
+        long[] ids = new long[200_000];
+        for (int i = 0; i < ids.length; i += 2) {
+            ids[i] = node0.nextId();
+            ids[i + 1] = node1.nextId();
+        }
+        Arrays.sort(ids);
+        for (int i = 1; i < ids.length; i++) {
+            assertNotEquals(ids[i - 1], ids[i]);
+        }
+    }
+
+    @Test
+    void rejectsOutOfRangeNodeId() {
+        assertThrows(IllegalArgumentException.class, () -> new SnowflakeGameIdGenerator(32));
+        assertThrows(IllegalArgumentException.class, () -> new SnowflakeGameIdGenerator(-1));
+    }
+}
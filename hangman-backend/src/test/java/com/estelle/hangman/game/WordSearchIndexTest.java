@@ -0,0 +1,134 @@
+package com.estelle.hangman.game;
+
+import com.estelle.hangman.domain.Course;
+import com.estelle.hangman.domain.User;
+import com.estelle.hangman.domain.Word;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * WordPool.search(검색 색인)가 예전 DB 검색(LIKE '%키워드%', category =, 대소문자 무시 collation)과 같은 결과를 내는지 확인합니다.
+ */
+class WordSearchIndexTest {
+
+    private static final String[] CATEGORIES = {"Animal", "animal", "ANIMAL", "Fruit", "fruit", "School"};
+    private static final String[] KEYWORDS = {
+            "a", "E", "z", "an", "AN", "pL", "qu", "app", "APP", "Ana", "ele", "ANT", "hool", "xyz", "banana", "zebras"
+    };
+
+    private final WordPool pool = new WordPool(null);
+    private final List<Word> words = new ArrayList<>();
+
+    @Test
+    void searchMatchesTheOldQuerySemantics() {
+        addRandomWords(500, new Random(7));
+
+        List<String> categories = new ArrayList<>();
+        categories.add(null);
+        categories.addAll(List.of(CATEGORIES));
+        categories.add("aNiMaL");
+        categories.add("Vehicle");
+        List<String> keywords = new ArrayList<>();
+        keywords.add(null);
+        keywords.addAll(List.of(KEYWORDS));
+
+        for (String keyword : keywords) {
+            for (String category : categories) {
+                for (Integer difficulty : new Integer[]{null, 1, 3}) {
+                    assertEquals(expected(keyword, category, difficulty, 0, Integer.MAX_VALUE),
+                            pool.search(keyword, category, difficulty, 0, Integer.MAX_VALUE),
+                            "keyword=" + keyword + ", category=" + category + ", difficulty=" + difficulty);
+                }
+            }
+        }
+    }
+
+    @Test
+    void pagesMatchTheOldQuerySemantics() {
+        addRandomWords(300, new Random(11));
+
+        for (String keyword : new String[]{"a", "An", "ele"}) {
+            long after = 0;
+            while (true) {
+                List<Long> page = pool.search(keyword, "animal", null, after, 7);
+                assertEquals(expected(keyword, "animal", null, after, 7), page, "keyword=" + keyword + ", after=" + after);
+                if (page.isEmpty()) {
+                    break;
+                }
+                after = page.get(page.size() - 1);
+            }
+        }
+    }
+
+    @Test
+    void editedCategoryIsFoundInAnyCase() {
+        Word word = word(1L, "TIGER", "Animal", 2);
+        pool.put(word);
+        assertEquals(List.of(1L), pool.search(null, "ANIMAL", null, 0, 10));
+
+        // 대소문자만 바꾼 수정에도 색인에서 빠지지 않아야 함
+        pool.put(word(1L, "TIGER", "animal", 2));
+        assertEquals(List.of(1L), pool.search(null, "Animal", null, 0, 10));
+        assertEquals(List.of(1L), pool.search("ig", "animal", null, 0, 10));
+
+        pool.put(word(1L, "TIGER", "Wild", 2));
+        assertEquals(List.of(), pool.search(null, "animal", null, 0, 10));
+        assertEquals(List.of(1L), pool.search(null, "WILD", null, 0, 10));
+    }
+
+    private void addRandomWords(int count, Random random) {
+        String[] seeds = {"APPLE", "BANANA", "ELEPHANT", "TIGER", "ZEBRA", "QUIZ", "SCHOOL", "PLANT", "ANT", "A"};
+        for (long id = 1; id <= count; id++) {
+            // 섞인 대소문자와 무작위 글자로 겹치는 조각이 많도록 만듦
+            StringBuilder text = new StringBuilder(seeds[random.nextInt(seeds.length)]);
+            for (int i = random.nextInt(4); i > 0; i--) {
+                text.insert(random.nextInt(text.length() + 1), (char) ('A' + random.nextInt(26)));
+            }
+            String mixed = random.nextBoolean() ? text.toString() : text.toString().toLowerCase(Locale.ROOT);
+            String category = random.nextInt(8) == 0 ? null : CATEGORIES[random.nextInt(CATEGORIES.length)];
+            Word word = word(id, mixed, category, 1 + random.nextInt(3));
+            words.add(word);
+            pool.put(word);
+        }
+    }
+
+    /**
+     * 예전 DB 검색 결과: ID 순서, 키워드는 LIKE '%키워드%', 카테고리/난이도는 =, 문자열 비교는 대소문자 무시
+     */
+    private List<Long> expected(String keyword, String category, Integer difficulty, long after, int limit) {
+        List<Long> ids = new ArrayList<>();
+        for (Word word : words) {
+            if (ids.size() == limit) {
+                break;
+            }
+            if (word.getId() > after
+                    && (category == null || category.equalsIgnoreCase(word.getCategory()))
+                    && (difficulty == null || difficulty.equals(word.getDifficulty()))
+                    && (keyword == null || word.getWord().toUpperCase(Locale.ROOT).contains(keyword.toUpperCase(Locale.ROOT)))) {
+                ids.add(word.getId());
+            }
+        }
+        return ids;
+    }
+
+    private static Word word(long id, String text, String category, int difficulty) {
+        Course course = new Course();
+        course.setId(1L);
+        User teacher = new User();
+        teacher.setId(10L);
+        Word word = new Word();
+        word.setId(id);
+        word.setWord(text);
+        word.setCategory(category);
+        word.setDifficulty(difficulty);
+        word.setCourse(course);
+        word.setTeacher(teacher);
+        return word;
+    }
+}
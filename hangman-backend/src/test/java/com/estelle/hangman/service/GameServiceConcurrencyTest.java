@@ -0,0 +1,175 @@
+package com.estelle.hangman.service;
+
+import com.estelle.hangman.domain.*;
+import com.estelle.hangman.dto.GameGuessRequest;
+import com.estelle.hangman.game.AdaptiveWordSelector;
+import com.estelle.hangman.game.GameEventLog;
+import com.estelle.hangman.game.GameHistoryWriter;
+import com.estelle.hangman.game.GameJournal;
+import com.estelle.hangman.game.GameLocks;
+import com.estelle.hangman.game.GameSessionStore;
+import com.estelle.hangman.game.HintEngine;
+import com.estelle.hangman.game.IdBlockAllocator;
+import com.estelle.hangman.game.ReviewItemWriter;
+import com.estelle.hangman.game.ReviewQueueStore;
+import com.estelle.hangman.game.ShuffleBagStore;
+import com.estelle.hangman.game.SnowflakeGameIdGenerator;
+import com.estelle.hangman.game.WordPool;
+import com.estelle.hangman.repository.CourseRepository;
+import com.estelle.hangman.repository.GameEventRepository;
+import com.estelle.hangman.repository.GameHistoryRepository;
+import com.estelle.hangman.repository.ReviewItemRepository;
+import com.estelle.hangman.repository.UserRepository;
+import com.estelle.hangman.repository.WordRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 같은 게임에 동시에 들어온 추측 요청이 순서대로 처리되는지 확인하는 스트레스 테스트입니다.
+ */
+class GameServiceConcurrencyTest {
+
+    private static final String USERNAME = "student";
+    private static final String[] TEXTS = {"APPLE", "ELEPHANT", "TIGER", "BANANA", "SCHOOL", "PENCIL", "ZEBRA", "QUIZ"};
+
+    private final GameSessionStore store = new GameSessionStore(60, 5, 1000);
+    private final Map<Long, Word> words = new HashMap<>();
+    private final Map<Long, GameHistoryWriter.Entry> savedHistories = new ConcurrentHashMap<>();
+    private final AtomicInteger duplicateSaves = new AtomicInteger();
+
+    private GameHistoryWriter historyWriter;
+    private GameService gameService;
+
+    @BeforeEach
+    void setUp() {
+        Course course = new Course();
+        course.setId(1L);
+
+        User student = new User();
+        student.setId(100L);
+        student.setUsername(USERNAME);
+        student.setRole(Role.USER);
+        student.setCourse(course);
+
+        for (int i = 0; i < TEXTS.length; i++) {
+            Word word = new Word();
+            word.setId((long) i + 1);
+            word.setWord(TEXTS[i]);
+            word.setCourse(course);
+            words.put(word.getId(), word);
+        }
+
+        WordRepository wordRepository = mock(WordRepository.class);
+        when(wordRepository.getReferenceById(anyLong())).thenAnswer(inv -> words.get(inv.<Long>getArgument(0)));
+
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findByUsername(USERNAME)).thenReturn(Optional.of(student));
+
+        GameHistoryRepository gameHistoryRepository = mock(GameHistoryRepository.class);
+
+        // 게임(단어)마다 기록이 몇 번 저장되는지 센다
+        IdBlockAllocator idBlockAllocator = new IdBlockAllocator(null, 100) {
+            private long next = 1;
+
+            @Override
+            protected long reserveBlock(String name, int size) {
+                long first = next;
+                next += size;
+                return first;
+            }
+        };
+        historyWriter = new GameHistoryWriter(null, idBlockAllocator, 16, 4, 10, 100, 100) {
+            @Override
+            protected void insert(List<Entry> batch, long[] ids) {
+                for (Entry entry : batch) {
+                    if (savedHistories.putIfAbsent(entry.wordId(), entry) != null) {
+                        duplicateSaves.incrementAndGet();
+                    }
+                }
+            }
+        };
+        historyWriter.start();
+
+        WordPool wordPool = new WordPool(wordRepository);
+        SnowflakeGameIdGenerator idGenerator = new SnowflakeGameIdGenerator(0);
+        GameJournal journal = new GameJournal(store, wordRepository, false, "unused", 1, 16, 16, 10, 100);
+        gameService = new GameService(wordRepository, userRepository, gameHistoryRepository,
+                mock(CourseRepository.class), mock(GameStatisticsService.class),
+                store, idGenerator, journal, new GameLocks(),
+                new GameStreamService(16, 30, 100, 1),
+                new GameEventLog(null, idGenerator, false, 16, 16, 1000), mock(GameEventRepository.class),
+                wordPool, new ShuffleBagStore(wordPool, 100),
+                new AdaptiveWordSelector(wordPool, gameHistoryRepository),
+                new ReviewQueueStore(wordPool, mock(ReviewItemRepository.class), new ReviewItemWriter(null, 200, 5000), 100),
+                new HintEngine(wordPool), historyWriter);
+    }
+
+    @Test
+    void concurrentGuessesCompleteEachGameExactlyOnce() throws Exception {
+        // 게임마다 알파벳 26자를 20번씩 섞어서 동시에 보냄 (8게임 x 520건 = 4160건)
+        List<GameGuessRequest> requests = new ArrayList<>();
+        for (long gameId = 1; gameId <= TEXTS.length; gameId++) {
+            store.put(gameId, new GameSession(words.get(gameId), 100L));
+            for (int repeat = 0; repeat < 20; repeat++) {
+                for (char c = 'A'; c <= 'Z'; c++) {
+                    GameGuessRequest request = new GameGuessRequest();
+                    request.setGameId(gameId);
+                    request.setLetter(c);
+                    requests.add(request);
+                }
+            }
+        }
+        Collections.shuffle(requests, new Random(42));
+
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger completedResponses = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+        for (GameGuessRequest request : requests) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    if (gameService.guessLetter(USERNAME, request).isComplete()) {
+                        completedResponses.incrementAndGet();
+                    }
+                } catch (IllegalStateException e) {
+                    assertEquals("Game is already complete", e.getMessage());
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+        historyWriter.stop();  // 대기 중인 기록을 모두 저장
+
+        // 모든 게임이 끝났고, 끝났다는 응답과 기록 저장은 게임마다 정확히 한 번
+        assertEquals(0, duplicateSaves.get());
+        assertEquals(TEXTS.length, savedHistories.size());
+        assertEquals(TEXTS.length, completedResponses.get());
+
+        for (long gameId = 1; gameId <= TEXTS.length; gameId++) {
+            GameSession session = store.get(gameId);
+            GameHistoryWriter.Entry history = savedHistories.get(session.getWordId());
+            assertTrue(session.isComplete());
+            assertTrue(session.getWrongCount() <= session.getMaxAttempts());
+            assertEquals(session.isSuccess(), history.success());
+            assertEquals(session.getWrongCount(), history.attempts());
+            // 맞힌 게임이라면 단어의 모든 글자를 추측했어야 함
+            if (session.isSuccess()) {
+                assertEquals(session.getWordText(), session.getMaskedWord().replace(" ", ""));
+            }
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.estelle.hangman.service;
+
+import com.estelle.hangman.domain.GameHistory;
+import com.estelle.hangman.domain.GameSession;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameStatisticsServiceTest {
+
+    @Test
+    void ranksLettersByHowManyGamesMissedThem() {
+        List<GameHistory> histories = List.of(
+                history("Q,Z"),
+                history("Q,X,Z"),
+                history("Q,B"),
+                history("Z,Q,K"),
+                history("X"));
+
+        // Q 4번, Z 3번, X 2번, B/K 1번
+        assertEquals("Q,Z,X", GameStatisticsService.findMostMissedLetters(histories));
+    }
+
+    @Test
+    void breaksTiesInAlphabeticalOrder() {
+        List<GameHistory> histories = List.of(history("Y,M"), history("C,Y"), history("M,C"), history("Z"));
+
+        // C, M, Y 모두 2번
+        assertEquals("C,M,Y", GameStatisticsService.findMostMissedLetters(histories));
+        assertEquals("A,B,C", GameStatisticsService.findMostMissedLetters(List.of(history("E,D,C,B,A"))));
+    }
+
+    @Test
+    void returnsFewerLettersWhenFewerWereMissed() {
+        assertEquals("", GameStatisticsService.findMostMissedLetters(List.of()));
+        assertEquals("", GameStatisticsService.findMostMissedLetters(List.of(history(""))));
+        assertEquals("J", GameStatisticsService.findMostMissedLetters(List.of(history("J"), history(""))));
+        assertEquals("J,W", GameStatisticsService.findMostMissedLetters(List.of(history("W,J"))));
+    }
+
+    @Test
+    void wrongLettersRoundTripThroughTheMask() {
+        assertEquals("A,B,C", history("A,B,C").getWrongLetters());
+        assertEquals(0b111, history("A,B,C").getWrongLetterMask());
+        assertEquals("A,M,Z", history("Z,A,M").getWrongLetters());
+        assertEquals("", history("").getWrongLetters());
+        assertEquals(String.join(",", "ABCDEFGHIJKLMNOPQRSTUVWXYZ".split("")),
+                history(String.join(",", "ZYXWVUTSRQPONMLKJIHGFEDCBA".split(""))).getWrongLetters());
+
+        GameHistory empty = new GameHistory();
+        assertEquals("", empty.getWrongLetters());  // 마스크가 없는 기록
+    }
+
+    @Test
+    void wrongLettersMatchTheSessionThatProducedTheMask() {
+        GameSession session = new GameSession(1L, 1L, 100L, "HANGMAN");
+        for (char letter : new char[]{'E', 'A', 'Z', 'N', 'B'}) {
+            session.guessLetter(letter);
+        }
+
+        GameHistory history = new GameHistory();
+        history.setWrongLetterMask(session.getWrongMask());
+        assertEquals("B,E,Z", history.getWrongLetters());
+    }
+
+    /**
+     * 쉼표로 구분된 틀린 알파벳으로 마스크를 만든 게임 기록
+     */
+    private static GameHistory history(String wrongLetters) {
+        int mask = 0;
+        List<String> letters = new ArrayList<>(List.of(wrongLetters.split(",")));
+        letters.removeIf(String::isEmpty);
+        for (String letter : letters) {
+            mask |= 1 << (letter.charAt(0) - 'A');
+        }
+        GameHistory history = new GameHistory();
+        history.setWrongLetterMask(mask);
+        return history;
+    }
+}
@@ -0,0 +1,138 @@
+package com.estelle.hangman.service;
+
+import com.estelle.hangman.domain.Course;
+import com.estelle.hangman.domain.User;
+import com.estelle.hangman.domain.Word;
+import com.estelle.hangman.dto.WordImportResponse;
+import com.estelle.hangman.game.IdBlockAllocator;
+import com.estelle.hangman.game.WordPool;
+import com.estelle.hangman.repository.CourseRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class WordImportServiceTest {
+
+    @Test
+    void splitsQuotedFields() {
+        assertEquals(List.of("APPLE", "fruit", "1"), WordImportService.splitCsv("APPLE,fruit,1"));
+        assertEquals(List.of("APPLE", "fruit, red", "1"), WordImportService.splitCsv("APPLE,\"fruit, red\",1"));
+        assertEquals(List.of("", "", ""), WordImportService.splitCsv(",,"));
+        assertEquals(List.of("APPLE"), WordImportService.splitCsv("APPLE"));
+    }
+
+    @Test
+    void unescapesDoubledQuotes() {
+        assertEquals(List.of("APPLE", "the \"red\" one", "2"),
+                WordImportService.splitCsv("APPLE,\"the \"\"red\"\" one\",2"));
+        assertEquals(List.of("APPLE", "\"", "2"), WordImportService.splitCsv("APPLE,\"\"\"\",2"));
+    }
+
+    @Test
+    void recognizesOnlyAnExactHeader() {
+        assertTrue(WordImportService.isCsvHeader("word,category,difficulty"));
+        assertTrue(WordImportService.isCsvHeader(" Word ,Category,Difficulty"));
+        assertTrue(WordImportService.isCsvHeader("\"WORD\",category,difficulty"));
+        assertFalse(WordImportService.isCsvHeader("WORDY,adjective,2"));
+        assertFalse(WordImportService.isCsvHeader("APPLE,fruit,1"));
+    }
+
+    @Test
+    void rejectsWrongColumnCounts() {
+        assertEquals("Expected 3 columns (word,category,difficulty) but got 2",
+                assertThrows(IllegalArgumentException.class, () -> WordImportService.parseCsv("APPLE,1")).getMessage());
+        assertEquals("Expected 3 columns (word,category,difficulty) but got 4",
+                assertThrows(IllegalArgumentException.class, () -> WordImportService.parseCsv("APPLE,fruit,1,x")).getMessage());
+        // 따옴표 안의 쉼표는 열을 나누지 않음
+        assertEquals("fruit, red", WordImportService.parseCsv("APPLE,\"fruit, red\",1").getCategory());
+    }
+
+    @Test
+    void convertsAValidRow() {
+        Word word = WordImportService.toWord(" apple ", " fruit ", " 3 ");
+        assertEquals("APPLE", word.getWord());
+        assertEquals("fruit", word.getCategory());
+        assertEquals(3, word.getDifficulty());
+        assertNull(WordImportService.toWord("APPLE", " ", "1").getCategory());
+    }
+
+    @Test
+    void rejectsBadDifficulties() {
+        for (String difficulty : new String[]{"0", "6", "-1", "two", "", "1.5", null}) {
+            IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                    () -> WordImportService.toWord("APPLE", "fruit", difficulty), "difficulty=" + difficulty);
+            assertEquals("Difficulty must be a number from 1 to 5", e.getMessage());
+        }
+    }
+
+    @Test
+    void rejectsBadWords() {
+        assertEquals("Word is empty",
+                assertThrows(IllegalArgumentException.class, () -> WordImportService.toWord("  ", null, "1")).getMessage());
+        assertThrows(IllegalArgumentException.class, () -> WordImportService.toWord("ICE CREAM", null, "1"));
+        assertThrows(IllegalArgumentException.class, () -> WordImportService.toWord("CAFÉ", null, "1"));
+        assertThrows(IllegalArgumentException.class, () -> WordImportService.toWord("A".repeat(256), null, "1"));
+    }
+
+    @Test
+    void skipsTheHeaderAndCountsDuplicatesAndErrors() throws Exception {
+        Course course = new Course();
+        course.setId(1L);
+        User teacher = new User();
+        teacher.setId(10L);
+
+        WordPool wordPool = new WordPool(null);
+        Word existing = new Word();
+        existing.setId(1000L);
+        existing.setWord("TIGER");
+        existing.setCourse(course);
+        existing.setTeacher(teacher);
+        existing.setDifficulty(1);
+        wordPool.put(existing);
+
+        CourseRepository courseRepository = mock(CourseRepository.class);
+        when(courseRepository.findById(1L)).thenReturn(Optional.of(course));
+        IdBlockAllocator idBlockAllocator = new IdBlockAllocator(null, 100) {
+            private long next = 1;
+
+            @Override
+            protected long reserveBlock(String name, int size) {
+                long first = next;
+                next += size;
+                return first;
+            }
+        };
+        WordImportService service = new WordImportService(mock(JdbcTemplate.class), idBlockAllocator,
+                courseRepository, wordPool, new ObjectMapper(), 2);
+
+        String csv = String.join("\n",
+                "word,category,difficulty",
+                "apple,fruit,1",
+                "APPLE,fruit,2",        // 파일 안의 중복 (대소문자만 다름)
+                "tiger,animal,2",       // 반에 이미 있는 단어
+                "",
+                "banana,\"fruit, yellow\",2",
+                "cherry,fruit",         // 열 수가 맞지 않음
+                "grape,fruit,9",        // 난이도 범위 밖
+                "lemon,fruit,3");
+        WordImportResponse response = service.importWords(teacher, 1L,
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), false);
+
+        assertEquals(3, response.getImportedCount());
+        assertEquals(2, response.getDuplicateCount());
+        assertEquals(2, response.getErrorCount());
+        assertEquals(7, response.getErrors().get(0).getLine());
+        assertEquals(8, response.getErrors().get(1).getLine());
+        assertEquals("Difficulty must be a number from 1 to 5", response.getErrors().get(1).getMessage());
+        assertTrue(wordPool.textsByCourse(1L).containsAll(List.of("APPLE", "BANANA", "LEMON", "TIGER")));
+    }
+}